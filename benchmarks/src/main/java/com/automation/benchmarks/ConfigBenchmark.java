@@ -0,0 +1,50 @@
+package com.automation.benchmarks;
+
+import com.automation.config.TestConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestConfig lookups as made by page objects and utilities on every call
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConfigBenchmark {
+
+    @Benchmark
+    public String stringProperty() {
+        return TestConfig.getProperty("test.env", "DEV");
+    }
+
+    @Benchmark
+    public int intProperty() {
+        return TestConfig.getIntProperty("retry.count", 0);
+    }
+
+    @Benchmark
+    public boolean booleanProperty() {
+        return TestConfig.getBooleanProperty("email.enabled", false);
+    }
+
+    @Benchmark
+    public int typedGetter() {
+        return TestConfig.getExplicitWait();
+    }
+
+    @Benchmark
+    public String missingProperty() {
+        return TestConfig.getProperty("no.such.key", "fallback");
+    }
+}
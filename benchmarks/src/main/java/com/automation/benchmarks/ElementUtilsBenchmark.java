@@ -0,0 +1,123 @@
+package com.automation.benchmarks;
+
+import com.automation.fixtures.LocalReloySite;
+import com.automation.utils.DriverManager;
+import com.automation.utils.ElementState;
+import com.automation.utils.ElementUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ElementUtils operations against the suite's local replica of the login site, served
+ * on a free port and driven by an in-process HtmlUnit browser so only framework overhead
+ * is measured.
+ * There is no network hop to the browser here, so batching gains that come from
+ * saving round trips to a remote browser do not show up in these numbers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ElementUtilsBenchmark {
+    private static final By TITLE = By.cssSelector(".hero h1");
+    private static final By LOGIN_MENU = By.id("login-menu");
+    private static final By GET_OTP = By.id("get-otp");
+    private static final By PHONE_CSS = By.cssSelector("input[type='tel']");
+    private static final By PHONE_XPATH = By.xpath("//input[@type='tel' or @placeholder='Phone Number' or contains(@name,'phone')]");
+    private static final By ERROR_XPATH = By.xpath("//div[contains(@class,'error') or contains(@class,'alert')]//span");
+    private static final By TERMS = By.cssSelector("input[type='checkbox'].checkbox-sm");
+    private static final By OTP = By.cssSelector("input[type='number']#otp");
+    private static final By LOGIN = By.cssSelector("button[type='submit'].bg-primary");
+    private static final By OFFERS = By.className("offer-card");
+    private static final List<By> FORM = Arrays.asList(PHONE_CSS, TERMS, OTP, LOGIN, ERROR_XPATH);
+
+    private HtmlUnitDriver driver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = LocalReloySite.start(0);
+        driver = new HtmlUnitDriver(true);
+        DriverManager.setDriver(driver);
+        DriverManager.navigateTo(url);
+        // Fail one login so every field of the form, including the error, is displayed
+        ElementUtils.click(LOGIN_MENU);
+        ElementUtils.sendKeys(PHONE_CSS, "9990009992");
+        ElementUtils.click(TERMS);
+        ElementUtils.click(GET_OTP);
+        ElementUtils.sendKeys(OTP, "0000");
+        ElementUtils.click(LOGIN);
+        ElementUtils.waitForElementVisible(ERROR_XPATH);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DriverManager.quitDriver();
+        LocalReloySite.stop();
+    }
+
+    @Benchmark
+    public String getText() {
+        return ElementUtils.getText(TITLE);
+    }
+
+    @Benchmark
+    public String getTextAfterNavigation() {
+        // Defeats the element cache to include the locator lookup
+        ElementUtils.invalidateElementCache();
+        return ElementUtils.getText(TITLE);
+    }
+
+    @Benchmark
+    public List<WebElement> findByCss() {
+        return ElementUtils.findElements(PHONE_CSS);
+    }
+
+    @Benchmark
+    public List<WebElement> findByXPath() {
+        return ElementUtils.findElements(PHONE_XPATH);
+    }
+
+    @Benchmark
+    public List<WebElement> findAll() {
+        return ElementUtils.findElements(OFFERS);
+    }
+
+    @Benchmark
+    public void sendKeys() {
+        ElementUtils.sendKeys(PHONE_CSS, "9990009992");
+    }
+
+    @Benchmark
+    public boolean formStateOneByOne() {
+        return ElementUtils.isElementDisplayed(PHONE_CSS)
+                & ElementUtils.isElementSelected(TERMS)
+                & ElementUtils.isElementDisplayed(OTP)
+                & ElementUtils.isElementEnabled(LOGIN)
+                & ElementUtils.isElementDisplayed(ERROR_XPATH);
+    }
+
+    @Benchmark
+    public Map<By, ElementState> formStateSnapshot() {
+        return ElementUtils.snapshot(FORM, "value");
+    }
+}
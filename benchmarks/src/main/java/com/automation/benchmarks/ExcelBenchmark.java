@@ -0,0 +1,95 @@
+package com.automation.benchmarks;
+
+import com.automation.utils.ExcelUtils;
+import com.automation.utils.WorkbookCache;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading test data from generated workbooks: a cold parse, a cached read and a streamed read
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExcelBenchmark {
+    private static final String SHEET = "Data";
+    private static final int COLUMNS = 8;
+
+    @Param({"100", "1000", "10000"})
+    public int rows;
+
+    private Path workbook;
+
+    @Setup(Level.Trial)
+    public void createWorkbook() throws IOException {
+        workbook = Files.createTempFile("excel-benchmark-", ".xlsx");
+        try (SXSSFWorkbook wb = new SXSSFWorkbook(100);
+             OutputStream out = Files.newOutputStream(workbook)) {
+            Sheet sheet = wb.createSheet(SHEET);
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < COLUMNS; c++) {
+                header.createCell(c).setCellValue("column" + c);
+            }
+            for (int r = 1; r <= rows; r++) {
+                Row row = sheet.createRow(r);
+                for (int c = 0; c < COLUMNS; c++) {
+                    // Repeating values, like real test data with shared expectations
+                    row.createCell(c).setCellValue("value-" + c + "-" + (r % 50));
+                }
+            }
+            wb.write(out);
+            wb.dispose();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteWorkbook() throws IOException {
+        WorkbookCache.clear();
+        Files.deleteIfExists(workbook);
+    }
+
+    @Benchmark
+    public List<List<String>> coldRead() throws IOException {
+        WorkbookCache.clear();
+        return new ExcelUtils(workbook.toString()).getSheetData(SHEET);
+    }
+
+    @Benchmark
+    public List<List<String>> cachedRead() throws IOException {
+        return new ExcelUtils(workbook.toString()).getSheetData(SHEET);
+    }
+
+    @Benchmark
+    public void streamedRead(Blackhole blackhole) throws IOException {
+        Iterator<Object[]> data = ExcelUtils.streamSheetData(workbook.toString(), SHEET);
+        while (data.hasNext()) {
+            blackhole.consume(data.next());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.automation.benchmarks;
+
+import com.automation.utils.ReportLogger;
+import com.aventstack.extentreports.ExtentReports;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost to test threads of the calls BaseTest.logInfo/logDebug delegate to, with
+ * several test threads logging at once. Each iteration logs a fixed batch per
+ * thread into fresh report nodes and is drained afterwards, so report memory
+ * stays bounded. Console output is discarded so the benchmark measures the
+ * logger rather than the terminal.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = ReportLoggerBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = ReportLoggerBenchmark.BATCH)
+@Fork(1)
+@Threads(4)
+public class ReportLoggerBenchmark {
+    static final int BATCH = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class Report {
+        private ExtentReports extent;
+        private PrintStream console;
+
+        @Setup(Level.Trial)
+        public void discardConsole() {
+            console = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+
+        @Setup(Level.Iteration)
+        public void newReport() {
+            extent = new ExtentReports();
+        }
+
+        @TearDown(Level.Iteration)
+        public void drain() {
+            ReportLogger.flush();
+        }
+
+        @TearDown(Level.Trial)
+        public void restoreConsole() {
+            System.setOut(console);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TestNode {
+        @Setup(Level.Iteration)
+        public void setUp(Report report) {
+            ReportLogger.startTest(report.extent.createTest(Thread.currentThread().getName()));
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            ReportLogger.endTest();
+        }
+    }
+
+    @Benchmark
+    public void info(TestNode node) {
+        ReportLogger.info("Entered phone number");
+    }
+
+    @Benchmark
+    public void suppressedDebug(TestNode node) {
+        ReportLogger.debug(() -> "Element state: " + node);
+    }
+}
@@ -0,0 +1,116 @@
+package com.automation.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Immutable configuration resolved once at startup. Raw values live in an
+ * unmodifiable map that is safe to read without locking, integer values are
+ * parsed up front, and the settings read on hot paths are compiled into
+ * typed final fields.
+ */
+final class ConfigSnapshot {
+    private static final List<String> SCREENSHOT_FORMATS = Arrays.asList("png", "jpg", "jpeg", "bmp", "gif");
+
+    private final Map<String, String> values;
+    private final Map<String, Integer> intValues;
+
+    final String browser;
+    final boolean headless;
+    final int implicitWait;
+    final int explicitWait;
+    final int pageLoadTimeout;
+    final String waitStrategy;
+    final String waitEngine;
+    final int quickWaitMs;
+    final int pollingIntervalMs;
+    final String baseUrl;
+    final boolean screenshotOnFailure;
+    final String screenshotFormat;
+    final boolean videoRecording;
+    final int parallelThreads;
+    final boolean driverPoolEnabled;
+    final int driverPoolMinIdle;
+    final int driverPoolMaxSize;
+    final int driverPoolMaxReuse;
+    final int driverPoolLeaseTimeout;
+    final String testDataFile;
+    final int excelCacheMaxMb;
+    final String extentReportPath;
+    final String screenshotPath;
+    final String logPath;
+
+    ConfigSnapshot(Properties properties) {
+        Map<String, String> raw = new HashMap<>();
+        Map<String, Integer> ints = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            String value = properties.getProperty(key);
+            raw.put(key, value);
+            try {
+                ints.put(key, Integer.parseInt(value));
+            } catch (NumberFormatException e) {
+                // Not an integer setting
+            }
+        }
+        values = Collections.unmodifiableMap(raw);
+        intValues = Collections.unmodifiableMap(ints);
+
+        browser = get("browser", "chrome");
+        headless = getBoolean("headless", false);
+        implicitWait = getInt("implicit.wait", 10);
+        explicitWait = getInt("explicit.wait", 20);
+        pageLoadTimeout = getInt("page.load.timeout", 30);
+        waitStrategy = get("wait.strategy", "explicit");
+        waitEngine = get("wait.engine", "polling");
+        quickWaitMs = getInt("wait.quick.timeout.ms", 750);
+        pollingIntervalMs = getInt("wait.polling.interval.ms", 250);
+        baseUrl = "local".equalsIgnoreCase(get("site.mode", "remote"))
+                ? "http://localhost:" + getInt("site.local.port", 8085) + "/reloy-website"
+                : get("base.url", "https://www.google.com");
+        screenshotOnFailure = getBoolean("screenshot.on.failure", true);
+        screenshotFormat = get("screenshot.format", "png").trim().toLowerCase();
+        if (!SCREENSHOT_FORMATS.contains(screenshotFormat)) {
+            throw new IllegalStateException("Unknown screenshot.format '" + screenshotFormat
+                    + "', expected one of " + SCREENSHOT_FORMATS);
+        }
+        videoRecording = getBoolean("video.recording", false);
+        parallelThreads = getInt("parallel.threads", 3);
+        driverPoolEnabled = getBoolean("driver.pool.enabled", false);
+        driverPoolMinIdle = getInt("driver.pool.min.idle", 0);
+        driverPoolMaxSize = getInt("driver.pool.max.size", parallelThreads);
+        driverPoolMaxReuse = getInt("driver.pool.max.reuse", 25);
+        driverPoolLeaseTimeout = getInt("driver.pool.lease.timeout", 120);
+        testDataFile = get("test.data.file", "src/test/resources/testdata/LoginData.xlsx");
+        excelCacheMaxMb = getInt("excel.cache.max.mb", 64);
+        extentReportPath = get("extent.report.path", "target/extent-reports/");
+        screenshotPath = get("screenshot.path", "target/screenshots/");
+        logPath = get("log.path", "target/logs/");
+    }
+
+    String get(String key) {
+        return values.get(key);
+    }
+
+    String get(String key, String defaultValue) {
+        String value = values.get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    Integer getInt(String key) {
+        return intValues.get(key);
+    }
+
+    int getInt(String key, int defaultValue) {
+        Integer value = intValues.get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+}
@@ -5,18 +5,16 @@ import java.io.IOException;
 import java.util.Properties;
 
 /**
- * Configuration class to manage test settings and environment variables
+ * Configuration class to manage test settings and environment variables.
+ * Settings are resolved once (file, then system properties, then environment
+ * variables) into an immutable snapshot, so lookups never lock or re-parse.
  */
 public class TestConfig {
-    private static Properties properties;
     private static final String CONFIG_FILE = "src/test/resources/config.properties";
+    private static final ConfigSnapshot config = new ConfigSnapshot(loadProperties());
     
-    static {
-        loadProperties();
-    }
-    
-    private static void loadProperties() {
-        properties = new Properties();
+    private static Properties loadProperties() {
+        Properties properties = new Properties();
         try {
             // Load from file
             FileInputStream fis = new FileInputStream(CONFIG_FILE);
@@ -33,15 +31,16 @@ public class TestConfig {
                     properties.setProperty(key, envValue);
                 }
             }
+            return properties;
         } catch (IOException e) {
             System.err.println("Error loading properties file: " + e.getMessage());
             // Set default values
-            setDefaultProperties();
+            return getDefaultProperties();
         }
     }
     
-    private static void setDefaultProperties() {
-        properties = new Properties();
+    private static Properties getDefaultProperties() {
+        Properties properties = new Properties();
         properties.setProperty("browser", "chrome");
         properties.setProperty("headless", "false");
         properties.setProperty("implicit.wait", "10");
@@ -51,26 +50,24 @@ public class TestConfig {
         properties.setProperty("screenshot.on.failure", "true");
         properties.setProperty("video.recording", "false");
         properties.setProperty("parallel.threads", "3");
+        return properties;
     }
     
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return config.get(key);
     }
     
     public static String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return config.get(key, defaultValue);
     }
     
     public static int getIntProperty(String key) {
-        return Integer.parseInt(getProperty(key));
+        Integer value = config.getInt(key);
+        return value != null ? value : Integer.parseInt(getProperty(key));
     }
     
     public static int getIntProperty(String key, int defaultValue) {
-        try {
-            return Integer.parseInt(getProperty(key));
-        } catch (NumberFormatException e) {
-            return defaultValue;
-        }
+        return config.getInt(key, defaultValue);
     }
     
     public static boolean getBooleanProperty(String key) {
@@ -78,63 +75,240 @@ public class TestConfig {
     }
     
     public static boolean getBooleanProperty(String key, boolean defaultValue) {
-        try {
-            return Boolean.parseBoolean(getProperty(key));
-        } catch (Exception e) {
-            return defaultValue;
-        }
+        return config.getBoolean(key, defaultValue);
     }
     
     // Browser configuration
     public static String getBrowser() {
-        return getProperty("browser", "chrome");
+        return config.browser;
     }
     
     public static boolean isHeadless() {
-        return getBooleanProperty("headless", false);
+        return config.headless;
     }
     
     // Wait timeouts
     public static int getImplicitWait() {
-        return getIntProperty("implicit.wait", 10);
+        return config.implicitWait;
     }
     
     public static int getExplicitWait() {
-        return getIntProperty("explicit.wait", 20);
+        return config.explicitWait;
     }
     
     public static int getPageLoadTimeout() {
-        return getIntProperty("page.load.timeout", 30);
+        return config.pageLoadTimeout;
+    }
+    
+    public static String getWaitStrategy() {
+        return config.waitStrategy;
+    }
+    
+    public static String getWaitEngine() {
+        return config.waitEngine;
+    }
+    
+    public static int getQuickWaitMillis() {
+        return config.quickWaitMs;
+    }
+    
+    public static int getPollingIntervalMillis() {
+        return config.pollingIntervalMs;
+    }
+    
+    public static boolean isElementCacheEnabled() {
+        return getBooleanProperty("element.cache.enabled", true);
+    }
+    
+    public static boolean isLocatorProfilingEnabled() {
+        return getBooleanProperty("locator.profiling.enabled", false);
+    }
+    
+    public static int getLocatorProfileSlowMillis() {
+        return getIntProperty("locator.profile.slow.ms", 50);
+    }
+    
+    // Page readiness
+    public static String getPageLoadStrategy() {
+        return getProperty("page.load.strategy", "eager");
+    }
+    
+    public static String getPageReadyProbes() {
+        return getProperty("page.ready.probes", "dom,network,framework");
+    }
+    
+    public static int getPageReadyNetworkIdleMillis() {
+        return getIntProperty("page.ready.network.idle.ms", 300);
     }
     
     // URLs
+    /**
+     * Login page URL; points at the embedded local site when site.mode=local
+     */
     public static String getBaseUrl() {
-        return getProperty("base.url", "https://www.google.com");
+        return config.baseUrl;
+    }
+    
+    public static boolean isLocalSite() {
+        return "local".equalsIgnoreCase(getProperty("site.mode", "remote"));
+    }
+    
+    public static int getSiteLocalPort() {
+        return getIntProperty("site.local.port", 8085);
+    }
+    
+    public static int getSiteLatencyMillis() {
+        return getIntProperty("site.latency.ms", 0);
+    }
+    
+    public static int getSiteLatencyJitterMillis() {
+        return getIntProperty("site.latency.jitter.ms", 0);
     }
     
     // Test configuration
     public static boolean isScreenshotOnFailure() {
-        return getBooleanProperty("screenshot.on.failure", true);
+        return config.screenshotOnFailure;
     }
     
     public static boolean isVideoRecording() {
-        return getBooleanProperty("video.recording", false);
+        return config.videoRecording;
     }
     
     public static int getParallelThreads() {
-        return getIntProperty("parallel.threads", 3);
+        return config.parallelThreads;
+    }
+    
+    public static String getScreenshotFormat() {
+        return config.screenshotFormat;
+    }
+    
+    public static int getScreenshotWriterThreads() {
+        return getIntProperty("screenshot.writer.threads", 2);
+    }
+    
+    public static int getScreenshotQueueCapacity() {
+        return getIntProperty("screenshot.queue.capacity", 32);
+    }
+    
+    public static String getTestHistoryFile() {
+        return getProperty("test.history.file", ".test-history/durations.properties");
+    }
+    
+    public static boolean isSuiteDedupeEnabled() {
+        return getBooleanProperty("suite.dedupe", true);
+    }
+    
+    public static int getShardIndex() {
+        return getIntProperty("shard.index", 0);
+    }
+    
+    public static int getShardCount() {
+        return getIntProperty("shard.count", 1);
+    }
+    
+    // Browser isolation configuration
+    public static String getIsolationMode() {
+        return getProperty("isolation.mode", "process");
+    }
+    
+    public static int getContextsPerBrowser() {
+        return getIntProperty("contexts.per.browser", 4);
+    }
+    
+    // Network policy configuration
+    public static String getNetworkBlockPatterns() {
+        return getProperty("network.block.patterns", "");
+    }
+    
+    public static String getNetworkBlockTypes() {
+        return getProperty("network.block.types", "");
+    }
+    
+    public static int getNetworkProxyPort() {
+        return getIntProperty("network.proxy.port", 0);
+    }
+    
+    public static boolean isAssetCacheEnabled() {
+        return getBooleanProperty("asset.cache.enabled", false);
+    }
+    
+    public static int getAssetCacheMaxMb() {
+        return getIntProperty("asset.cache.max.mb", 64);
+    }
+    
+    public static String getAssetCacheDir() {
+        return getProperty("asset.cache.dir", "");
+    }
+    
+    // Driver pool configuration
+    public static boolean isDriverPoolEnabled() {
+        return config.driverPoolEnabled;
+    }
+    
+    public static int getDriverPoolMinIdle() {
+        return config.driverPoolMinIdle;
+    }
+    
+    public static int getDriverPoolMaxSize() {
+        return config.driverPoolMaxSize;
+    }
+    
+    public static int getDriverPoolMaxReuse() {
+        return config.driverPoolMaxReuse;
+    }
+    
+    public static int getDriverPoolLaunchThreads() {
+        return getIntProperty("driver.pool.launch.threads", getDriverPoolMinIdle());
+    }
+    
+    public static String getDriverBinaryDir() {
+        return getProperty("driver.binary.dir", "");
+    }
+    
+    public static int getDriverPoolLeaseTimeout() {
+        return config.driverPoolLeaseTimeout;
+    }
+    
+    // Authenticated session cache
+    public static int getSessionCacheTtlMinutes() {
+        return getIntProperty("session.cache.ttl.minutes", 30);
+    }
+    
+    public static boolean isSessionCacheOnDisk() {
+        return getBooleanProperty("session.cache.disk.enabled", false);
+    }
+    
+    public static String getSessionCacheDir() {
+        return getProperty("session.cache.dir", "target/session-cache/");
+    }
+    
+    // Test data
+    public static String getTestDataFile() {
+        return config.testDataFile;
+    }
+    
+    public static int getExcelCacheMaxMb() {
+        return config.excelCacheMaxMb;
     }
     
     // Report configuration
     public static String getExtentReportPath() {
-        return getProperty("extent.report.path", "target/extent-reports/");
+        return config.extentReportPath;
     }
     
     public static String getScreenshotPath() {
-        return getProperty("screenshot.path", "target/screenshots/");
+        return config.screenshotPath;
     }
     
     public static String getLogPath() {
-        return getProperty("log.path", "target/logs/");
+        return config.logPath;
+    }
+    
+    public static String getLogLevel() {
+        return getProperty("log.level", "INFO");
+    }
+    
+    public static int getLogFlushInterval() {
+        return getIntProperty("log.flush.interval.ms", 100);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,209 @@
+package com.automation.pages;
+
+import com.automation.config.TestConfig;
+import com.automation.utils.ElementUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides an authenticated browser state without repeating the UI login.
+ * The first login for a phone number goes through the LoginPage flow; its cookies
+ * and localStorage are then cached in memory (and optionally on disk) and injected
+ * into later sessions until the entry expires. Only tests that verify the login UI
+ * itself need to run the full flow.
+ */
+public class AuthSessionProvider {
+    private static final Map<String, StoredSession> sessions = new ConcurrentHashMap<>();
+    private static final Map<String, Object> locks = new ConcurrentHashMap<>();
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Log the driver in as the given phone number, reusing a cached session when possible
+     *
+     * @return true if the driver ends up logged in
+     */
+    public static boolean login(WebDriver driver, String phoneNumber, String otp) {
+        StoredSession session = getCached(phoneNumber);
+        if (session != null && inject(driver, session)) {
+            return true;
+        }
+        synchronized (locks.computeIfAbsent(phoneNumber, key -> new Object())) {
+            // Another thread may have logged in while we waited
+            session = getCached(phoneNumber);
+            if (session != null && inject(driver, session)) {
+                return true;
+            }
+            invalidate(phoneNumber);
+
+            LoginPage loginPage = new LoginPage(driver);
+            // Only a session that reached the dashboard is worth caching
+            if (!loginPage.performLogin(phoneNumber, otp) || !loginPage.waitForDashboard()) {
+                return false;
+            }
+            store(phoneNumber, capture(driver));
+            return true;
+        }
+    }
+
+    /**
+     * Forget the cached session for a phone number
+     */
+    public static void invalidate(String phoneNumber) {
+        sessions.remove(phoneNumber);
+        try {
+            Files.deleteIfExists(cacheFile(phoneNumber));
+        } catch (IOException e) {
+            System.err.println("Failed to delete cached session: " + e.getMessage());
+        }
+    }
+
+    private static StoredSession getCached(String phoneNumber) {
+        StoredSession session = sessions.get(phoneNumber);
+        if (session == null && TestConfig.isSessionCacheOnDisk()) {
+            session = readFromDisk(phoneNumber);
+            if (session != null) {
+                sessions.put(phoneNumber, session);
+            }
+        }
+        if (session != null && isExpired(session)) {
+            invalidate(phoneNumber);
+            return null;
+        }
+        return session;
+    }
+
+    private static boolean isExpired(StoredSession session) {
+        long ttl = TimeUnit.MINUTES.toMillis(TestConfig.getSessionCacheTtlMinutes());
+        long now = System.currentTimeMillis();
+        if (now - session.createdAt > ttl) {
+            return true;
+        }
+        for (Map<String, Object> cookie : session.cookies) {
+            Object expiry = cookie.get("expiry");
+            if (expiry instanceof Number && ((Number) expiry).longValue() < now) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void store(String phoneNumber, StoredSession session) {
+        sessions.put(phoneNumber, session);
+        if (TestConfig.isSessionCacheOnDisk()) {
+            try {
+                Path file = cacheFile(phoneNumber);
+                Files.createDirectories(file.getParent());
+                mapper.writeValue(file.toFile(), session);
+            } catch (IOException e) {
+                System.err.println("Failed to write cached session: " + e.getMessage());
+            }
+        }
+    }
+
+    private static StoredSession readFromDisk(String phoneNumber) {
+        Path file = cacheFile(phoneNumber);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return mapper.readValue(file.toFile(), StoredSession.class);
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable cached session: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static Path cacheFile(String phoneNumber) {
+        return Paths.get(TestConfig.getSessionCacheDir(), phoneNumber.replaceAll("[^A-Za-z0-9]", "_") + ".json");
+    }
+
+    /**
+     * Capture cookies and localStorage of the current page
+     */
+    @SuppressWarnings("unchecked")
+    private static StoredSession capture(WebDriver driver) {
+        StoredSession session = new StoredSession();
+        session.createdAt = System.currentTimeMillis();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            Map<String, Object> values = new HashMap<>();
+            values.put("name", cookie.getName());
+            values.put("value", cookie.getValue());
+            values.put("domain", cookie.getDomain());
+            values.put("path", cookie.getPath());
+            values.put("expiry", cookie.getExpiry() != null ? cookie.getExpiry().getTime() : null);
+            values.put("secure", cookie.isSecure());
+            values.put("httpOnly", cookie.isHttpOnly());
+            values.put("sameSite", cookie.getSameSite());
+            session.cookies.add(values);
+        }
+        Object storage = ((JavascriptExecutor) driver).executeScript(
+                "var items = {};" +
+                "for (var i = 0; i < window.localStorage.length; i++) {" +
+                "  var key = window.localStorage.key(i); items[key] = window.localStorage.getItem(key);" +
+                "}" +
+                "return items;");
+        if (storage instanceof Map) {
+            ((Map<String, Object>) storage).forEach((key, value) -> session.localStorage.put(key, String.valueOf(value)));
+        }
+        return session;
+    }
+
+    /**
+     * Load the site origin, restore cookies and localStorage, then reload as a logged-in user
+     *
+     * @return true if the dashboard shows for the restored session
+     */
+    private static boolean inject(WebDriver driver, StoredSession session) {
+        try {
+            driver.get(TestConfig.getBaseUrl());
+            driver.manage().deleteAllCookies();
+            for (Map<String, Object> values : session.cookies) {
+                Object expiry = values.get("expiry");
+                Cookie cookie = new Cookie.Builder((String) values.get("name"), (String) values.get("value"))
+                        .domain((String) values.get("domain"))
+                        .path((String) values.get("path"))
+                        .expiresOn(expiry instanceof Number ? new Date(((Number) expiry).longValue()) : null)
+                        .isSecure(Boolean.TRUE.equals(values.get("secure")))
+                        .isHttpOnly(Boolean.TRUE.equals(values.get("httpOnly")))
+                        .sameSite((String) values.get("sameSite"))
+                        .build();
+                driver.manage().addCookie(cookie);
+            }
+            ((JavascriptExecutor) driver).executeScript(
+                    "var items = arguments[0];" +
+                    "Object.keys(items).forEach(function (key) { window.localStorage.setItem(key, items[key]); });",
+                    session.localStorage);
+            driver.navigate().refresh();
+            ElementUtils.invalidateElementCache();
+            // An expired or rejected session shows the login page, not the dashboard
+            return new LoginPage(driver).waitForDashboardOrLoginMenu();
+        } catch (WebDriverException e) {
+            System.err.println("Failed to restore cached session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Serializable snapshot of an authenticated browser state
+     */
+    public static class StoredSession {
+        public long createdAt;
+        public List<Map<String, Object>> cookies = new ArrayList<>();
+        public Map<String, String> localStorage = new HashMap<>();
+    }
+}
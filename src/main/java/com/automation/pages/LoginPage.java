@@ -1,9 +1,20 @@
 package com.automation.pages;
 
+import com.automation.config.TestConfig;
+import com.automation.utils.DriverManager;
+import com.automation.utils.ElementState;
 import com.automation.utils.ElementUtils;
+import com.automation.utils.StepPipeline;
+import com.automation.utils.WaitStrategy;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Page Object class for Reloy Login Page
@@ -28,6 +39,17 @@ public class LoginPage {
         this.driver = driver;
     }
     
+    /**
+     * Create a page bound to whichever driver the calling thread currently holds
+     */
+    public LoginPage() {
+        this(null);
+    }
+    
+    private WebDriver driver() {
+        return driver != null ? driver : DriverManager.getDriver();
+    }
+    
     /**
      * Get OTP input locator
      */
@@ -36,11 +58,12 @@ public class LoginPage {
     }
     
     /**
-     * Navigate to login page
+     * Navigate to login page; the page is usable once the login menu shows
      */
     public void navigateToLoginPage() {
-        driver.get("https://dev.loyalie.in/reloy-website");
-        ElementUtils.waitForPageLoad();
+        driver().get(TestConfig.getBaseUrl());
+        ElementUtils.invalidateElementCache();
+        ElementUtils.waitForPageLoad(loginMenuButton);
     }
     
     /**
@@ -111,9 +134,21 @@ public class LoginPage {
     }
     
     /**
-     * Get error message text
+     * Get error message text if one is showing; returns within the quick state-check budget
      */
     public String getErrorMessage() {
+        try {
+            String text = ElementUtils.getTextIfPresent(errorMessage);
+            return text != null ? text : "No error message found";
+        } catch (Exception e) {
+            return "No error message found";
+        }
+    }
+    
+    /**
+     * Wait for an expected error message, using the full explicit wait
+     */
+    public String waitForErrorMessage() {
         try {
             return ElementUtils.getText(errorMessage);
         } catch (Exception e) {
@@ -122,34 +157,84 @@ public class LoginPage {
     }
     
     /**
-     * Get success message text
+     * Get success message text if one is showing; returns within the quick state-check budget
      */
     public String getSuccessMessage() {
         try {
-            return ElementUtils.getText(successMessage);
+            String text = ElementUtils.getTextIfPresent(successMessage);
+            return text != null ? text : "No success message found";
         } catch (Exception e) {
             return "No success message found";
         }
     }
     
     /**
-     * Check if user is on dashboard/home page
+     * Check if user is on dashboard/home page, within the quick state-check budget;
+     * use waitForDashboard() to wait for it
      */
     public boolean isOnDashboard() {
         try {
-            return ElementUtils.isElementDisplayed(dashboardElement);
+            return ElementUtils.isElementVisibleNow(dashboardElement);
         } catch (Exception e) {
             return false;
         }
     }
     
     /**
-     * Check if OTP input field is visible
+     * Wait for the dashboard to show, using the full explicit wait. Unlike
+     * verifySuccessfulLogin() this requires the dashboard itself, so a failed login
+     * that stays on a URL without "login" in it does not count.
+     */
+    public boolean waitForDashboard() {
+        try {
+            WaitStrategy.newWait(driver(), WaitStrategy.getExplicitTimeout())
+                    .until(ExpectedConditions.visibilityOfElementLocated(dashboardElement));
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Wait until the page shows either the dashboard or the login menu, so a rejected
+     * session is recognised as soon as the login page renders rather than after the
+     * full explicit wait
+     *
+     * @return true if the dashboard showed
+     */
+    public boolean waitForDashboardOrLoginMenu() {
+        try {
+            WaitStrategy.newWait(driver(), WaitStrategy.getExplicitTimeout()).until(ExpectedConditions.or(
+                    ExpectedConditions.visibilityOfElementLocated(dashboardElement),
+                    ExpectedConditions.visibilityOfElementLocated(loginMenuButton)));
+        } catch (TimeoutException e) {
+            return false;
+        }
+        return isOnDashboard();
+    }
+    
+    /**
+     * Check if OTP input field is visible, within the quick state-check budget;
+     * use waitForOtpField() to wait for it
      */
     public boolean isOtpFieldVisible() {
+        return ElementUtils.isElementVisibleNow(otpInput);
+    }
+    
+    /**
+     * Wait for the OTP input field to show, e.g. after requesting an OTP
+     */
+    public boolean waitForOtpField() {
         return ElementUtils.isElementDisplayed(otpInput);
     }
     
+    /**
+     * Check that the OTP input field is not shown, within the quick state-check budget
+     */
+    public boolean isOtpFieldAbsent() {
+        return ElementUtils.isElementAbsent(otpInput);
+    }
+    
     /**
      * Check if terms checkbox is selected
      */
@@ -171,6 +256,35 @@ public class LoginPage {
         return ElementUtils.isElementEnabled(loginButton);
     }
     
+    /**
+     * Wait for login button to become enabled, e.g. after the OTP is entered
+     */
+    public boolean waitForLoginButtonEnabled() {
+        return ElementUtils.waitUntilEnabled(loginButton);
+    }
+    
+    /**
+     * Capture the state of every login form control in one round trip, keyed by
+     * loginMenu, phoneNumber, termsCheckbox, getOtp, otp, login and error.
+     * Each state includes the element's "value" attribute.
+     */
+    public Map<String, ElementState> getFormState() {
+        Map<String, By> controls = new LinkedHashMap<>();
+        controls.put("loginMenu", loginMenuButton);
+        controls.put("phoneNumber", phoneNumberInput);
+        controls.put("termsCheckbox", termsCheckbox);
+        controls.put("getOtp", getOtpButton);
+        controls.put("otp", otpInput);
+        controls.put("login", loginButton);
+        controls.put("error", errorMessage);
+        Map<By, ElementState> states = ElementUtils.snapshot(new ArrayList<>(controls.values()), "value");
+        Map<String, ElementState> byName = new LinkedHashMap<>();
+        for (Map.Entry<String, By> control : controls.entrySet()) {
+            byName.put(control.getKey(), states.get(control.getValue()));
+        }
+        return byName;
+    }
+    
     /**
      * Click resend OTP button
      */
@@ -228,6 +342,43 @@ public class LoginPage {
         }
     }
     
+    /**
+     * Build the login flow as a step pipeline; each step completes as soon as the page
+     * shows its effect, so the flow runs at the speed of the application
+     */
+    public StepPipeline buildLoginPipeline(String phoneNumber, String otp) {
+        String[] urlBeforeLogin = new String[1];
+        return new StepPipeline()
+            .step("Navigate to login page", this::navigateToLoginPage,
+                ExpectedConditions.elementToBeClickable(loginMenuButton))
+            .step("Click login menu", this::clickLoginMenu,
+                ExpectedConditions.visibilityOfElementLocated(phoneNumberInput))
+            .step("Enter phone number: " + phoneNumber, () -> enterPhoneNumber(phoneNumber),
+                ExpectedConditions.attributeToBe(phoneNumberInput, "value", phoneNumber))
+            .step("Check terms and conditions", this::checkTermsAndConditions,
+                ExpectedConditions.elementSelectionStateToBe(termsCheckbox, true))
+            .step("Click Get OTP", this::clickGetOtp,
+                ExpectedConditions.visibilityOfElementLocated(otpInput))
+            .step("Enter OTP: " + otp, () -> enterOtp(otp),
+                ExpectedConditions.elementToBeClickable(loginButton))
+            .step("Click Login", () -> {
+                    urlBeforeLogin[0] = driver().getCurrentUrl();
+                    clickLogin();
+                },
+                ExpectedConditions.or(
+                    webDriver -> !webDriver.getCurrentUrl().equals(urlBeforeLogin[0]),
+                    ExpectedConditions.visibilityOfElementLocated(errorMessage),
+                    ExpectedConditions.visibilityOfElementLocated(dashboardElement)));
+    }
+    
+    /**
+     * Reach a logged-in state, reusing a cached session for the phone number when one is available.
+     * Use performLogin() instead when the login UI itself is under test.
+     */
+    public boolean loginWithCachedSession(String phoneNumber, String otp) {
+        return AuthSessionProvider.login(driver(), phoneNumber, otp);
+    }
+    
     /**
      * Verify successful login
      */
@@ -245,7 +396,7 @@ public class LoginPage {
             }
             
             // Check if we're redirected to a different URL
-            String currentUrl = driver.getCurrentUrl();
+            String currentUrl = driver().getCurrentUrl();
             if (!currentUrl.contains("login") && !currentUrl.contains("auth")) {
                 return true;
             }
@@ -282,13 +433,13 @@ public class LoginPage {
      * Get current page title
      */
     public String getPageTitle() {
-        return driver.getTitle();
+        return driver().getTitle();
     }
     
     /**
      * Get current URL
      */
     public String getCurrentUrl() {
-        return driver.getCurrentUrl();
+        return driver().getCurrentUrl();
     }
 } 
\ No newline at end of file
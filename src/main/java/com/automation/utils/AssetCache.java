@@ -0,0 +1,375 @@
+package com.automation.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared HTTP response cache for the local proxy, so static assets downloaded by
+ * one browser session are served locally to the next. Only responses the origin
+ * marks as cacheable by a shared cache are kept (200, a max-age or Expires in the
+ * future, no private/no-store/no-cache, no Set-Cookie); stale entries with a
+ * validator are revalidated instead of refetched. Entries are evicted least
+ * recently used once their total size passes the limit. With a directory the
+ * bodies live on disk and survive across runs; otherwise they are kept in memory.
+ * On disk every entry gets a body file of its own, never rewritten, so a hit
+ * being served while the same key is replaced still reads the body that matches
+ * its head.
+ */
+final class AssetCache {
+    private static final int MAX_ENTRY_FRACTION = 8;
+
+    private final long maxBytes;
+    private final Path directory;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long totalBytes;
+
+    /**
+     * @param directory where to keep bodies, or null to keep them in memory
+     */
+    AssetCache(long maxBytes, Path directory) {
+        this.maxBytes = maxBytes;
+        this.directory = directory;
+        if (directory != null) {
+            load();
+        }
+    }
+
+    /**
+     * Largest response worth caching; bigger ones are streamed through
+     */
+    long getMaxEntryBytes() {
+        return maxBytes / MAX_ENTRY_FRACTION;
+    }
+
+    /**
+     * Look up an entry, fresh or stale
+     */
+    synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    synchronized void put(String key, byte[] head, byte[] body, long expiresAt, String etag, String lastModified) {
+        if (body.length > getMaxEntryBytes()) {
+            return;
+        }
+        remove(key);
+        Path bodyFile = null;
+        if (directory != null) {
+            try {
+                bodyFile = Files.createTempFile(directory, hash(key) + "-", ".body");
+                Files.write(bodyFile, body);
+            } catch (IOException e) {
+                System.err.println("Failed to write asset cache entry: " + e.getMessage());
+                deleteQuietly(bodyFile);
+                return;
+            }
+        }
+        Entry entry = new Entry(key, head, directory == null ? body : null, bodyFile, body.length,
+                expiresAt, etag, lastModified);
+        if (directory != null) {
+            try {
+                writeMeta(entry);
+            } catch (IOException e) {
+                System.err.println("Failed to write asset cache entry: " + e.getMessage());
+                deleteQuietly(bodyFile);
+                return;
+            }
+        }
+        entries.put(key, entry);
+        totalBytes += entry.size;
+        evict();
+    }
+
+    /**
+     * Extend a stale entry after the origin confirmed it is unchanged
+     */
+    synchronized void refresh(Entry entry, long expiresAt) {
+        entry.expiresAt = expiresAt;
+        if (directory != null) {
+            try {
+                writeMeta(entry);
+            } catch (IOException e) {
+                System.err.println("Failed to update asset cache entry: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Read an entry's body
+     *
+     * @return null if a disk entry went missing
+     */
+    byte[] body(Entry entry) {
+        if (entry.body != null) {
+            return entry.body;
+        }
+        try {
+            return Files.readAllBytes(entry.bodyFile);
+        } catch (IOException e) {
+            synchronized (this) {
+                // Unless the entry was replaced or evicted meanwhile, its body went missing
+                if (entries.get(entry.key) == entry) {
+                    remove(entry.key);
+                }
+            }
+            return null;
+        }
+    }
+
+    String summary() {
+        return "Asset cache: " + hits.get() + " hits, " + misses.get() + " misses, "
+                + entries.size() + " entries, " + (totalBytes / 1024) + " KB";
+    }
+
+    /**
+     * When a response may be served from a shared cache until, from its headers
+     *
+     * @param headers response headers with lower-case names
+     * @return epoch millis, or -1 if the response must not be cached
+     */
+    static long freshUntil(Map<String, String> headers, long now) {
+        if (headers.containsKey("set-cookie")) {
+            return -1;
+        }
+        String vary = headers.getOrDefault("vary", "").trim();
+        if (!vary.isEmpty() && !vary.equalsIgnoreCase("accept-encoding")) {
+            return -1;
+        }
+        String cacheControl = headers.getOrDefault("cache-control", "").toLowerCase();
+        if (cacheControl.contains("no-store") || cacheControl.contains("private") || cacheControl.contains("no-cache")) {
+            return -1;
+        }
+        long maxAge = directive(cacheControl, "s-maxage");
+        if (maxAge < 0) {
+            maxAge = directive(cacheControl, "max-age");
+        }
+        if (maxAge >= 0) {
+            return maxAge > 0 ? now + maxAge * 1000 : -1;
+        }
+        String expires = headers.get("expires");
+        if (expires != null) {
+            try {
+                long expiresAt = ZonedDateTime.parse(expires, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+                return expiresAt > now ? expiresAt : -1;
+            } catch (DateTimeParseException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static long directive(String cacheControl, String name) {
+        for (String part : cacheControl.split(",")) {
+            String[] pair = part.trim().split("=", 2);
+            if (pair.length == 2 && pair[0].equals(name)) {
+                try {
+                    return Long.parseLong(pair[1].replace("\"", "").trim());
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void evict() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Entry entry = eldest.next();
+            eldest.remove();
+            totalBytes -= entry.size;
+            deleteFiles(entry);
+        }
+    }
+
+    private void remove(String key) {
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            totalBytes -= previous.size;
+            deleteFiles(previous);
+        }
+    }
+
+    /**
+     * Rebuild the index from a previous run's files, least recently written first,
+     * and delete bodies no entry refers to along with leftover temp files
+     */
+    private void load() {
+        List<Path> metaFiles = new ArrayList<>();
+        List<Path> bodyFiles = new ArrayList<>();
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.meta")) {
+                files.forEach(metaFiles::add);
+            }
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.{body,tmp}")) {
+                files.forEach(bodyFiles::add);
+            }
+            metaFiles.sort((a, b) -> Long.compare(a.toFile().lastModified(), b.toFile().lastModified()));
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable asset cache: " + e.getMessage());
+            return;
+        }
+        for (Path metaFile : metaFiles) {
+            Properties meta = new Properties();
+            try (InputStream in = Files.newInputStream(metaFile)) {
+                meta.load(in);
+                String key = meta.getProperty("key");
+                Path bodyFile = directory.resolve(meta.getProperty("body"));
+                long size = Files.size(bodyFile);
+                Entry entry = new Entry(key, meta.getProperty("head").getBytes(StandardCharsets.ISO_8859_1), null,
+                        bodyFile, size, Long.parseLong(meta.getProperty("expiresAt")), meta.getProperty("etag"),
+                        meta.getProperty("lastModified"));
+                entries.put(key, entry);
+                totalBytes += size;
+            } catch (IOException | RuntimeException e) {
+                // Incomplete entry, e.g. from an interrupted run
+                deleteQuietly(metaFile);
+            }
+        }
+        for (Entry entry : entries.values()) {
+            bodyFiles.remove(entry.bodyFile);
+        }
+        bodyFiles.forEach(AssetCache::deleteQuietly);
+        evict();
+    }
+
+    private void writeMeta(Entry entry) throws IOException {
+        Properties meta = new Properties();
+        meta.setProperty("key", entry.key);
+        meta.setProperty("body", entry.bodyFile.getFileName().toString());
+        meta.setProperty("head", new String(entry.head, StandardCharsets.ISO_8859_1));
+        meta.setProperty("expiresAt", String.valueOf(entry.expiresAt));
+        if (entry.etag != null) {
+            meta.setProperty("etag", entry.etag);
+        }
+        if (entry.lastModified != null) {
+            meta.setProperty("lastModified", entry.lastModified);
+        }
+        // Replaced atomically so a crash never leaves a half-written index entry
+        Path temp = Files.createTempFile(directory, hash(entry.key), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                meta.store(out, null);
+            }
+            try {
+                Files.move(temp, metaFile(entry.key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, metaFile(entry.key), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void deleteFiles(Entry entry) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(metaFile(entry.key));
+            Files.deleteIfExists(entry.bodyFile);
+        } catch (IOException e) {
+            System.err.println("Failed to delete asset cache entry: " + e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Swept up by the next run's load
+        }
+    }
+
+    private Path metaFile(String key) {
+        return directory.resolve(hash(key) + ".meta");
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 16; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Cached response: the head as it is replayed to clients and the body as received
+     */
+    static final class Entry {
+        private final String key;
+        private final byte[] head;
+        private final byte[] body;
+        private final Path bodyFile;
+        private final long size;
+        private volatile long expiresAt;
+        private final String etag;
+        private final String lastModified;
+
+        Entry(String key, byte[] head, byte[] body, Path bodyFile, long size, long expiresAt, String etag,
+              String lastModified) {
+            this.key = key;
+            this.head = head;
+            this.body = body;
+            this.bodyFile = bodyFile;
+            this.size = size;
+            this.expiresAt = expiresAt;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        byte[] getHead() {
+            return head;
+        }
+
+        boolean isFresh(long now) {
+            return now < expiresAt;
+        }
+
+        String getEtag() {
+            return etag;
+        }
+
+        String getLastModified() {
+            return lastModified;
+        }
+    }
+}
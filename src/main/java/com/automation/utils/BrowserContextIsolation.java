@@ -0,0 +1,282 @@
+package com.automation.utils;
+
+import com.automation.config.TestConfig;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs several tests in one browser process, each in its own browser context: an
+ * incognito-style profile with separate cookies, storage and cache. A host
+ * browser is launched for every contexts.per.browser concurrent sessions; each
+ * session gets a fresh context with one page, driven by its own WebDriver
+ * session attached to the host through its debugger address. Closing the
+ * session disposes the context, so the host stays up for the next test.
+ *
+ * Enabled with isolation.mode=context for chrome and edge; other browsers fall
+ * back to one browser process per session. Window handles of an attached session
+ * include other sessions' pages, so tests should track the handles they open.
+ */
+public class BrowserContextIsolation {
+    private static final boolean enabled = resolveEnabled();
+    private static final List<Host> hosts = new ArrayList<>();
+    private static final Map<WebDriver, ContextSession> sessions = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Check if the driver is a session opened by open()
+     */
+    public static boolean isContextSession(WebDriver driver) {
+        return driver != null && sessions.containsKey(driver);
+    }
+
+    /**
+     * Open a session in a new browser context, launching a host browser if every
+     * running host is at capacity
+     */
+    public static WebDriver open() {
+        Host host = acquireHost();
+        WebDriver driver = null;
+        String contextId = null;
+        try {
+            contextId = host.createContext();
+            String targetId = host.createPage(contextId);
+            driver = DriverManager.attachToBrowser(host.debuggerAddress);
+            switchToPage(driver, targetId);
+            DriverManager.configureDriver(driver);
+            sessions.put(driver, new ContextSession(host, contextId));
+            return driver;
+        } catch (RuntimeException e) {
+            if (driver != null) {
+                detach(driver);
+            }
+            if (contextId != null) {
+                host.disposeContext(contextId);
+            } else {
+                // The host could not even create a context; do not hand it out again
+                host.broken = true;
+            }
+            releaseHost(host);
+            throw e;
+        }
+    }
+
+    /**
+     * Move the session to a fresh context, dropping all cookies, storage and pages
+     * of the previous one
+     *
+     * @return false if the session could not be reset and should be closed
+     */
+    public static boolean reset(WebDriver driver) {
+        ContextSession session = sessions.get(driver);
+        if (session == null) {
+            return false;
+        }
+        String contextId = null;
+        try {
+            contextId = session.host.createContext();
+            switchToPage(driver, session.host.createPage(contextId));
+            // Request blocking and the request counter are set per page
+            NetworkPolicy.apply(driver);
+            PageReadiness.install(driver);
+            String previous = session.contextId;
+            session.contextId = contextId;
+            session.host.disposeContext(previous);
+            return true;
+        } catch (WebDriverException e) {
+            System.err.println("Failed to reset browser context: " + e.getMessage());
+            if (contextId != null && !contextId.equals(session.contextId)) {
+                session.host.disposeContext(contextId);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Close a session opened by open(), disposing its context
+     *
+     * @return false if the driver is not a context session
+     */
+    public static boolean close(WebDriver driver) {
+        ContextSession session = driver != null ? sessions.remove(driver) : null;
+        if (session == null) {
+            return false;
+        }
+        session.host.disposeContext(session.contextId);
+        detach(driver);
+        releaseHost(session.host);
+        return true;
+    }
+
+    /**
+     * Close every session and quit the host browsers
+     */
+    public static void shutdown() {
+        for (WebDriver driver : new ArrayList<>(sessions.keySet())) {
+            close(driver);
+        }
+        synchronized (hosts) {
+            for (Host host : hosts) {
+                host.quit();
+            }
+            hosts.clear();
+        }
+    }
+
+    private static boolean resolveEnabled() {
+        if (!"context".equalsIgnoreCase(TestConfig.getIsolationMode())) {
+            return false;
+        }
+        String browser = TestConfig.getBrowser().toLowerCase();
+        if (!browser.equals("chrome") && !browser.equals("edge")) {
+            System.err.println("isolation.mode=context needs chrome or edge; running one " + browser + " per session");
+            return false;
+        }
+        return true;
+    }
+
+    private static Host acquireHost() {
+        synchronized (hosts) {
+            for (Host host : hosts) {
+                if (!host.broken && host.active < TestConfig.getContextsPerBrowser()) {
+                    host.active++;
+                    return host;
+                }
+            }
+            // Launched under the lock: every other caller would wait for capacity anyway
+            Host host = new Host(DriverManager.launchBrowser());
+            host.active++;
+            hosts.add(host);
+            return host;
+        }
+    }
+
+    private static void releaseHost(Host host) {
+        synchronized (hosts) {
+            host.active--;
+            if (host.broken && host.active == 0) {
+                hosts.remove(host);
+                host.quit();
+            }
+        }
+    }
+
+    /**
+     * Switch to the page created for the session; the attached driver picks up new
+     * targets on its next window lookup, which may lag the creation slightly
+     */
+    private static void switchToPage(WebDriver driver, String targetId) {
+        for (int attempt = 0; attempt < 10; attempt++) {
+            for (String handle : driver.getWindowHandles()) {
+                if (handle.equals(targetId) || handle.endsWith(targetId)) {
+                    driver.switchTo().window(handle);
+                    return;
+                }
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new WebDriverException("Page " + targetId + " of the new browser context did not appear");
+    }
+
+    /**
+     * End an attached session; the browser itself belongs to the host
+     */
+    private static void detach(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            System.err.println("Error detaching from browser context: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Browser process shared by several context sessions
+     */
+    private static final class Host {
+        private final WebDriver driver;
+        private final String debuggerAddress;
+        private final CdpConnection cdp;
+        private int active;
+        private volatile boolean broken;
+
+        Host(WebDriver driver) {
+            this.driver = driver;
+            try {
+                this.debuggerAddress = debuggerAddress(driver);
+                this.cdp = CdpConnection.connect(debuggerAddress);
+            } catch (RuntimeException e) {
+                driver.quit();
+                throw e;
+            }
+        }
+
+        String createContext() {
+            return cdp.send("Target.createBrowserContext", new HashMap<>()).path("browserContextId").asText();
+        }
+
+        String createPage(String contextId) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("url", "about:blank");
+            params.put("browserContextId", contextId);
+            // Only applies to headless browsers, whose new windows are otherwise 800x600
+            params.put("width", 1920);
+            params.put("height", 1080);
+            return cdp.send("Target.createTarget", params).path("targetId").asText();
+        }
+
+        void disposeContext(String contextId) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("browserContextId", contextId);
+            try {
+                cdp.send("Target.disposeBrowserContext", params);
+            } catch (WebDriverException e) {
+                System.err.println("Error disposing browser context: " + e.getMessage());
+            }
+        }
+
+        void quit() {
+            cdp.close();
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                System.err.println("Error quitting host browser: " + e.getMessage());
+            }
+        }
+
+        private static String debuggerAddress(WebDriver driver) {
+            String capability = TestConfig.getBrowser().equalsIgnoreCase("edge") ? EdgeOptions.CAPABILITY : ChromeOptions.CAPABILITY;
+            Object options = ((HasCapabilities) driver).getCapabilities().getCapability(capability);
+            Object address = options instanceof Map ? ((Map<?, ?>) options).get("debuggerAddress") : null;
+            if (address == null) {
+                throw new WebDriverException("Browser did not report a debugger address under " + capability);
+            }
+            return address.toString();
+        }
+    }
+
+    private static final class ContextSession {
+        private final Host host;
+        private volatile String contextId;
+
+        ContextSession(Host host, String contextId) {
+            this.host = host;
+            this.contextId = contextId;
+        }
+    }
+}
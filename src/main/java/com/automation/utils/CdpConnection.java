@@ -0,0 +1,139 @@
+package com.automation.utils;
+
+import com.automation.config.TestConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Browser-level Chrome DevTools Protocol connection over the browser's debugger
+ * address. Unlike executeCdpCommand, which runs against the driver's current
+ * page, this reaches browser-wide domains such as Target's browser contexts.
+ */
+final class CdpConnection implements WebSocket.Listener {
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final HttpClient http = HttpClient.newHttpClient();
+
+    private final AtomicInteger ids = new AtomicInteger();
+    private final Map<Integer, CompletableFuture<JsonNode>> pending = new ConcurrentHashMap<>();
+    private final StringBuilder partial = new StringBuilder();
+    private WebSocket socket;
+
+    private CdpConnection() {
+    }
+
+    /**
+     * Connect to the browser endpoint behind a debugger address such as localhost:9222
+     */
+    static CdpConnection connect(String debuggerAddress) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://" + debuggerAddress + "/json/version"))
+                    .timeout(Duration.ofSeconds(TestConfig.getPageLoadTimeout()))
+                    .build();
+            JsonNode version = mapper.readTree(http.send(request, HttpResponse.BodyHandlers.ofString()).body());
+            CdpConnection connection = new CdpConnection();
+            connection.socket = http.newWebSocketBuilder()
+                    .buildAsync(URI.create(version.path("webSocketDebuggerUrl").asText()), connection)
+                    .get(TestConfig.getPageLoadTimeout(), TimeUnit.SECONDS);
+            return connection;
+        } catch (IOException | ExecutionException | TimeoutException e) {
+            throw new WebDriverException("Failed to connect to DevTools at " + debuggerAddress, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted connecting to DevTools at " + debuggerAddress, e);
+        }
+    }
+
+    /**
+     * Send a command and wait for its result
+     */
+    JsonNode send(String method, Map<String, Object> params) {
+        int id = ids.incrementAndGet();
+        CompletableFuture<JsonNode> result = new CompletableFuture<>();
+        pending.put(id, result);
+        Map<String, Object> command = new HashMap<>();
+        command.put("id", id);
+        command.put("method", method);
+        command.put("params", params);
+        try {
+            String json = mapper.writeValueAsString(command);
+            // A WebSocket accepts one outstanding send at a time
+            synchronized (this) {
+                socket.sendText(json, true).get(TestConfig.getPageLoadTimeout(), TimeUnit.SECONDS);
+            }
+            return result.get(TestConfig.getPageLoadTimeout(), TimeUnit.SECONDS);
+        } catch (IOException | TimeoutException e) {
+            throw new WebDriverException("DevTools command " + method + " failed", e);
+        } catch (ExecutionException e) {
+            throw new WebDriverException("DevTools command " + method + " failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted sending DevTools command " + method, e);
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    void close() {
+        if (socket != null) {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "").exceptionally(e -> null);
+        }
+        fail(new WebDriverException("DevTools connection closed"));
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        partial.append(data);
+        if (last) {
+            String message = partial.toString();
+            partial.setLength(0);
+            try {
+                JsonNode json = mapper.readTree(message);
+                CompletableFuture<JsonNode> result = json.has("id") ? pending.get(json.get("id").asInt()) : null;
+                if (result != null) {
+                    if (json.has("error")) {
+                        result.completeExceptionally(new WebDriverException(json.get("error").path("message").asText()));
+                    } else {
+                        result.complete(json.path("result"));
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable DevTools message: " + e.getMessage());
+            }
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        fail(new WebDriverException("DevTools connection closed: " + reason));
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        fail(new WebDriverException("DevTools connection failed", error));
+    }
+
+    private void fail(WebDriverException error) {
+        pending.values().forEach(result -> result.completeExceptionally(error));
+    }
+}
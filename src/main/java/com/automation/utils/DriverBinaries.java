@@ -0,0 +1,155 @@
+package com.automation.utils;
+
+import com.automation.config.TestConfig;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resolves each browser's driver binary once per JVM instead of on every session.
+ * An explicit webdriver.*.driver system property wins; otherwise the binary is
+ * taken from driver.binary.dir, which works offline. Binaries there are kept per
+ * installed browser major version (driver.binary.dir/chrome/120/chromedriver), so
+ * a browser update picks up a matching driver instead of the old one. Only when
+ * the directory has no binary for the installed version is WebDriverManager asked,
+ * and the binary it finds is copied there for the next run. If WebDriverManager
+ * fails, Selenium Manager gets its turn when the driver starts.
+ */
+final class DriverBinaries {
+    private static final Set<String> resolved = new HashSet<>();
+
+    private DriverBinaries() {
+    }
+
+    /**
+     * Make the driver binary for the browser available to Selenium; later calls
+     * for the same browser return immediately
+     */
+    static synchronized void resolve(String browser) {
+        if (!resolved.add(browser)) {
+            return;
+        }
+        String property = property(browser);
+        if (property == null) {
+            if (browser.equals("safari")) {
+                // safaridriver ships with macOS
+                return;
+            }
+            throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+        String configured = System.getProperty(property);
+        if (configured != null && (configured.isEmpty() || configured.startsWith("${"))) {
+            // Unset placeholder passed through by the build; Selenium would try it as a path
+            System.clearProperty(property);
+            configured = null;
+        }
+        if (configured != null) {
+            return;
+        }
+        WebDriverManager manager = manager(browser);
+        Path local = localBinary(browser, manager);
+        if (local != null && Files.isExecutable(local)) {
+            System.setProperty(property, local.toString());
+            return;
+        }
+        try {
+            manager.setup();
+            if (local != null && manager.getDownloadedDriverPath() != null) {
+                keep(Paths.get(manager.getDownloadedDriverPath()), local);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to keep " + browser + " driver in driver.binary.dir: " + e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("WebDriverManager could not resolve the " + browser
+                    + " driver, leaving it to Selenium Manager: " + e.getMessage());
+        }
+    }
+
+    private static String property(String browser) {
+        switch (browser) {
+            case "chrome":
+                return "webdriver.chrome.driver";
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                return null;
+        }
+    }
+
+    private static WebDriverManager manager(String browser) {
+        switch (browser) {
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            default:
+                return WebDriverManager.chromedriver();
+        }
+    }
+
+    /**
+     * Where the driver for the installed browser version lives in driver.binary.dir
+     *
+     * @return null if no directory is configured or the browser version is unknown
+     */
+    private static Path localBinary(String browser, WebDriverManager manager) {
+        String directory = TestConfig.getDriverBinaryDir();
+        if (directory.isEmpty()) {
+            return null;
+        }
+        String major = browserMajorVersion(manager);
+        if (major == null) {
+            return null;
+        }
+        String name = browser.equals("firefox") ? "geckodriver" : browser.equals("edge") ? "msedgedriver" : "chromedriver";
+        if (System.getProperty("os.name", "").toLowerCase().startsWith("windows")) {
+            name += ".exe";
+        }
+        return Paths.get(directory, browser, major, name);
+    }
+
+    /**
+     * Detect the installed browser's version the way WebDriverManager does, from
+     * its bundled per-OS commands (registry or file version on Windows, so the
+     * browser is never launched) without going online
+     *
+     * @return null if the browser cannot be found or does not report a version
+     */
+    private static String browserMajorVersion(WebDriverManager manager) {
+        String browserName = manager.getDriverManagerType().getBrowserNameLowerCase();
+        try (HttpClient httpClient = new HttpClient(manager.config())) {
+            Optional<String> version = new VersionDetector(manager.config(), httpClient)
+                    .getBrowserVersionFromTheShell(browserName);
+            return version.map(VersionDetector::getMajorVersion).filter(major -> !major.isEmpty()).orElse(null);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Copy a downloaded driver into place; the move is atomic so shards starting
+     * together never run a half-written binary
+     */
+    private static void keep(Path downloaded, Path local) throws IOException {
+        Files.createDirectories(local.getParent());
+        Path temp = Files.createTempFile(local.getParent(), local.getFileName().toString(), ".tmp");
+        try {
+            Files.copy(downloaded, temp, StandardCopyOption.REPLACE_EXISTING);
+            temp.toFile().setExecutable(true);
+            Files.move(temp, local, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
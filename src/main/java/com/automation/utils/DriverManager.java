@@ -1,10 +1,10 @@
 package com.automation.utils;
 
 import com.automation.config.TestConfig;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
@@ -24,9 +24,20 @@ public class DriverManager {
     private static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
     
     /**
-     * Initialize WebDriver based on configuration
+     * Initialize WebDriver based on configuration; with isolation.mode=context the
+     * session runs in its own browser context of a shared browser
      */
     public static WebDriver initializeDriver() {
+        if (BrowserContextIsolation.isEnabled()) {
+            return BrowserContextIsolation.open();
+        }
+        return launchBrowser();
+    }
+    
+    /**
+     * Launch a dedicated browser process for the configured browser
+     */
+    static WebDriver launchBrowser() {
         String browser = TestConfig.getBrowser().toLowerCase();
         boolean headless = TestConfig.isHeadless();
         
@@ -50,8 +61,9 @@ public class DriverManager {
      * Create Chrome WebDriver
      */
     private static WebDriver createChromeDriver(boolean headless) {
-        WebDriverManager.chromedriver().setup();
+        DriverBinaries.resolve("chrome");
         ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(PageReadiness.getPageLoadStrategy());
         
         if (headless) {
             options.addArguments("--headless");
@@ -66,18 +78,31 @@ public class DriverManager {
         options.addArguments("--disable-infobars");
         options.addArguments("--disable-notifications");
         options.addArguments("--disable-popup-blocking");
+        configureAssetCache(options);
         
         WebDriver chromeDriver = new ChromeDriver(options);
         configureDriver(chromeDriver);
         return chromeDriver;
     }
     
+    /**
+     * Route a Chromium browser through the caching proxy, including localhost,
+     * which Chromium otherwise never proxies
+     */
+    private static void configureAssetCache(ChromiumOptions<?> options) {
+        if (NetworkPolicy.isCachingAssets()) {
+            options.setProxy(NetworkPolicy.proxy());
+            options.addArguments("--proxy-bypass-list=<-loopback>");
+        }
+    }
+    
     /**
      * Create Firefox WebDriver
      */
     private static WebDriver createFirefoxDriver(boolean headless) {
-        WebDriverManager.firefoxdriver().setup();
+        DriverBinaries.resolve("firefox");
         FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(PageReadiness.getPageLoadStrategy());
         
         if (headless) {
             options.addArguments("--headless");
@@ -89,6 +114,12 @@ public class DriverManager {
         options.addArguments("--disable-extensions");
         options.addArguments("--disable-notifications");
         
+        // Firefox has no DevTools request blocking; route it through the blocking proxy
+        if (NetworkPolicy.isEnabled() || NetworkPolicy.isCachingAssets()) {
+            options.setProxy(NetworkPolicy.firefoxProxy());
+            options.addPreference("network.proxy.allow_hijacking_localhost", true);
+        }
+        
         WebDriver firefoxDriver = new FirefoxDriver(options);
         configureDriver(firefoxDriver);
         return firefoxDriver;
@@ -98,8 +129,9 @@ public class DriverManager {
      * Create Edge WebDriver
      */
     private static WebDriver createEdgeDriver(boolean headless) {
-        WebDriverManager.edgedriver().setup();
+        DriverBinaries.resolve("edge");
         EdgeOptions options = new EdgeOptions();
+        options.setPageLoadStrategy(PageReadiness.getPageLoadStrategy());
         
         if (headless) {
             options.addArguments("--headless");
@@ -113,6 +145,7 @@ public class DriverManager {
         options.addArguments("--disable-extensions");
         options.addArguments("--disable-infobars");
         options.addArguments("--disable-notifications");
+        configureAssetCache(options);
         
         WebDriver edgeDriver = new EdgeDriver(options);
         configureDriver(edgeDriver);
@@ -123,8 +156,9 @@ public class DriverManager {
      * Create Safari WebDriver
      */
     private static WebDriver createSafariDriver() {
-        WebDriverManager.safaridriver().setup();
+        DriverBinaries.resolve("safari");
         SafariOptions options = new SafariOptions();
+        options.setPageLoadStrategy(PageReadiness.getPageLoadStrategy());
         
         WebDriver safariDriver = new SafariDriver(options);
         configureDriver(safariDriver);
@@ -142,6 +176,7 @@ public class DriverManager {
             ChromeOptions options = new ChromeOptions();
             options.setCapability("browserName", browser);
             options.setCapability("platformName", "ANY");
+            options.setPageLoadStrategy(PageReadiness.getPageLoadStrategy());
             
             return new RemoteWebDriver(new URL(gridUrl), options);
         } catch (Exception e) {
@@ -149,47 +184,93 @@ public class DriverManager {
         }
     }
     
+    /**
+     * Attach a new session to a running Chromium browser through its debugger address
+     */
+    static WebDriver attachToBrowser(String debuggerAddress) {
+        if (TestConfig.getBrowser().equalsIgnoreCase("edge")) {
+            EdgeOptions options = new EdgeOptions();
+            options.setExperimentalOption("debuggerAddress", debuggerAddress);
+            options.setPageLoadStrategy(PageReadiness.getPageLoadStrategy());
+            return new EdgeDriver(options);
+        }
+        ChromeOptions options = new ChromeOptions();
+        options.setExperimentalOption("debuggerAddress", debuggerAddress);
+        options.setPageLoadStrategy(PageReadiness.getPageLoadStrategy());
+        return new ChromeDriver(options);
+    }
+    
     /**
      * Configure WebDriver with common settings
      */
-    private static void configureDriver(WebDriver driver) {
+    static void configureDriver(WebDriver driver) {
         driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(
-            java.time.Duration.ofSeconds(TestConfig.getImplicitWait())
-        );
-        driver.manage().timeouts().pageLoadTimeout(
-            java.time.Duration.ofSeconds(TestConfig.getPageLoadTimeout())
-        );
-        driver.manage().timeouts().scriptTimeout(
-            java.time.Duration.ofSeconds(TestConfig.getExplicitWait())
-        );
+        WaitStrategy.configure(driver);
+        NetworkPolicy.apply(driver);
+        PageReadiness.install(driver);
     }
     
     /**
-     * Get current WebDriver instance
+     * Get current WebDriver instance, leased from the pool when pooling is enabled
      */
     public static WebDriver getDriver() {
         if (driver.get() == null) {
-            driver.set(initializeDriver());
+            driver.set(DriverPool.isEnabled() ? DriverPool.lease() : initializeDriver());
         }
         return driver.get();
     }
     
     /**
-     * Quit WebDriver and clean up
+     * Bind an externally created driver to the calling thread, e.g. an HtmlUnit
+     * driver in benchmarks. It is quit by quitDriver() like any non-pooled driver.
+     */
+    public static void setDriver(WebDriver webDriver) {
+        driver.set(webDriver);
+        ElementUtils.clearContext();
+    }
+    
+    /**
+     * Return the current thread's pooled driver to the pool; non-pooled drivers are kept
+     */
+    public static void releaseDriver() {
+        if (DriverPool.isPooled(driver.get())) {
+            try {
+                DriverPool.release(driver.get());
+            } finally {
+                driver.remove();
+                ElementUtils.clearContext();
+            }
+        }
+    }
+    
+    /**
+     * Quit WebDriver and clean up; pooled drivers are returned to the pool instead
      */
     public static void quitDriver() {
         if (driver.get() != null) {
             try {
-                driver.get().quit();
+                if (!DriverPool.release(driver.get())) {
+                    destroyDriver(driver.get());
+                }
             } catch (Exception e) {
                 System.err.println("Error quitting driver: " + e.getMessage());
             } finally {
                 driver.remove();
+                ElementUtils.clearContext();
             }
         }
     }
     
+    /**
+     * End a session created by initializeDriver(): context sessions dispose their
+     * browser context, others quit their browser
+     */
+    public static void destroyDriver(WebDriver webDriver) {
+        if (!BrowserContextIsolation.close(webDriver)) {
+            webDriver.quit();
+        }
+    }
+    
     /**
      * Close current browser window/tab
      */
@@ -208,6 +289,7 @@ public class DriverManager {
      */
     public static void navigateTo(String url) {
         getDriver().get(url);
+        ElementUtils.invalidateElementCache();
     }
     
     /**
@@ -236,6 +318,7 @@ public class DriverManager {
      */
     public static void refreshPage() {
         getDriver().navigate().refresh();
+        ElementUtils.invalidateElementCache();
     }
     
     /**
@@ -243,6 +326,7 @@ public class DriverManager {
      */
     public static void goBack() {
         getDriver().navigate().back();
+        ElementUtils.invalidateElementCache();
     }
     
     /**
@@ -250,5 +334,6 @@ public class DriverManager {
      */
     public static void goForward() {
         getDriver().navigate().forward();
+        ElementUtils.invalidateElementCache();
     }
 } 
\ No newline at end of file
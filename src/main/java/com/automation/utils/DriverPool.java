@@ -0,0 +1,255 @@
+package com.automation.utils;
+
+import com.automation.config.TestConfig;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of pre-launched WebDriver sessions shared across test threads.
+ * Sessions are leased per test, reset on return and evicted when unhealthy or
+ * after reaching the configured reuse limit.
+ */
+public class DriverPool {
+    private static final BlockingDeque<PooledDriver> idle = new LinkedBlockingDeque<>();
+    private static final Map<WebDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+    private static final AtomicInteger size = new AtomicInteger();
+    private static final AtomicInteger pending = new AtomicInteger();
+    private static ExecutorService launcher;
+
+    /**
+     * Check if pooling is enabled in configuration
+     */
+    public static boolean isEnabled() {
+        return TestConfig.isDriverPoolEnabled();
+    }
+
+    /**
+     * Start launching browsers in the background up to the configured min-idle
+     * count, up to driver.pool.launch.threads at a time
+     */
+    public static void warmUp() {
+        if (isEnabled()) {
+            replenish();
+        }
+    }
+
+    /**
+     * Lease a session, launching one if the pool is below its max size
+     * or waiting for a returned session otherwise
+     */
+    public static WebDriver lease() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TestConfig.getDriverPoolLeaseTimeout());
+        while (true) {
+            PooledDriver session = idle.pollFirst();
+            if (session == null && reserveSlot()) {
+                session = launch();
+            }
+            if (session == null) {
+                session = awaitIdle(deadline);
+            }
+            if (session == null) {
+                continue;
+            }
+            if (session.isHealthy()) {
+                session.uses++;
+                leased.put(session.driver, session);
+                replenish();
+                return session.driver;
+            }
+            evict(session);
+        }
+    }
+
+    /**
+     * Return a leased session to the pool
+     *
+     * @return false if the driver was not leased from this pool
+     */
+    public static boolean release(WebDriver driver) {
+        PooledDriver session = leased.remove(driver);
+        if (session == null) {
+            return false;
+        }
+        if (session.uses >= TestConfig.getDriverPoolMaxReuse() || !session.reset()) {
+            evict(session);
+        } else {
+            idle.offerFirst(session);
+        }
+        replenish();
+        return true;
+    }
+
+    /**
+     * Check if the driver is currently leased from this pool
+     */
+    public static boolean isPooled(WebDriver driver) {
+        return driver != null && leased.containsKey(driver);
+    }
+
+    /**
+     * Stop background launches and quit every session owned by the pool
+     */
+    public static void shutdown() {
+        synchronized (DriverPool.class) {
+            if (launcher != null) {
+                launcher.shutdownNow();
+                try {
+                    launcher.awaitTermination(TestConfig.getPageLoadTimeout(), TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                launcher = null;
+            }
+        }
+        PooledDriver session;
+        while ((session = idle.pollFirst()) != null) {
+            evict(session);
+        }
+        for (PooledDriver leasedSession : leased.values()) {
+            leased.remove(leasedSession.driver);
+            evict(leasedSession);
+        }
+    }
+
+    /**
+     * Wait briefly for a returned session; waking up periodically lets the caller
+     * claim a slot freed by a failed background launch or an eviction
+     */
+    private static PooledDriver awaitIdle(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new IllegalStateException("Timed out waiting for a pooled WebDriver session");
+        }
+        try {
+            return idle.pollFirst(Math.min(remaining, TimeUnit.SECONDS.toNanos(1)), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled WebDriver session", e);
+        }
+    }
+
+    private static PooledDriver launch() {
+        try {
+            return new PooledDriver(DriverManager.initializeDriver());
+        } catch (RuntimeException e) {
+            size.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private static void launchIdle() {
+        try {
+            idle.offerLast(launch());
+        } catch (RuntimeException e) {
+            System.err.println("Error pre-launching pooled driver: " + e.getMessage());
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    private static boolean reserveSlot() {
+        int max = TestConfig.getDriverPoolMaxSize();
+        while (true) {
+            int current = size.get();
+            if (current >= max) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private static void replenish() {
+        int missing = TestConfig.getDriverPoolMinIdle() - idle.size() - pending.get();
+        for (int i = 0; i < missing && reserveSlot(); i++) {
+            pending.incrementAndGet();
+            launcher().execute(DriverPool::launchIdle);
+        }
+    }
+
+    private static synchronized ExecutorService launcher() {
+        if (launcher == null) {
+            AtomicInteger threads = new AtomicInteger();
+            launcher = Executors.newFixedThreadPool(Math.max(1, TestConfig.getDriverPoolLaunchThreads()), runnable -> {
+                Thread thread = new Thread(runnable, "driver-pool-launcher-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return launcher;
+    }
+
+    private static void evict(PooledDriver session) {
+        size.decrementAndGet();
+        try {
+            DriverManager.destroyDriver(session.driver);
+        } catch (Exception e) {
+            System.err.println("Error quitting pooled driver: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Pooled session with its reuse counter
+     */
+    private static class PooledDriver {
+        private final WebDriver driver;
+        private int uses;
+
+        PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        boolean isHealthy() {
+            try {
+                return !driver.getWindowHandles().isEmpty();
+            } catch (WebDriverException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Close extra windows and clear storage and cookies; cookies and storage
+         * are only reachable for the current origin, so this runs before leaving the page
+         */
+        boolean reset() {
+            if (BrowserContextIsolation.isContextSession(driver)) {
+                // Other sessions' pages share the browser; swap in a fresh context instead
+                return BrowserContextIsolation.reset(driver);
+            }
+            try {
+                Set<String> handles = driver.getWindowHandles();
+                String primary = handles.iterator().next();
+                for (String handle : handles) {
+                    if (!handle.equals(primary)) {
+                        driver.switchTo().window(handle);
+                        driver.close();
+                    }
+                }
+                driver.switchTo().window(primary);
+                try {
+                    ((JavascriptExecutor) driver).executeScript(
+                        "window.localStorage.clear(); window.sessionStorage.clear();");
+                } catch (WebDriverException e) {
+                    // Opaque origins (about:blank, data:) have no storage
+                }
+                driver.manage().deleteAllCookies();
+                driver.get("about:blank");
+                return true;
+            } catch (WebDriverException | java.util.NoSuchElementException e) {
+                return false;
+            }
+        }
+    }
+}
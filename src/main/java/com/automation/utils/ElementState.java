@@ -0,0 +1,82 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Point-in-time state of the first element matching a locator, as captured by
+ * ElementUtils.snapshot(). An element that was not found reports every flag as false.
+ */
+public final class ElementState {
+    private final By locator;
+    private final boolean present;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final boolean selected;
+    private final String text;
+    private final Map<String, String> attributes;
+
+    ElementState(By locator, boolean present, boolean displayed, boolean enabled, boolean selected,
+                 String text, Map<String, String> attributes) {
+        this.locator = locator;
+        this.present = present;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.selected = selected;
+        this.text = text;
+        this.attributes = Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * State of a locator that matched nothing
+     */
+    static ElementState absent(By locator) {
+        return new ElementState(locator, false, false, false, false, "", Collections.emptyMap());
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSelected() {
+        return selected;
+    }
+
+    /**
+     * Visible text, empty when the element is hidden or absent
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Value of a requested attribute, null if the attribute is not set or was not requested
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public String toString() {
+        return locator + " {present=" + present + ", displayed=" + displayed + ", enabled=" + enabled
+                + ", selected=" + selected + ", text='" + text + "', attributes=" + attributes + "}";
+    }
+}
@@ -8,54 +8,307 @@ import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
- * Utility class for common element operations
+ * Utility class for common element operations.
+ * Each thread works against its own driver, wait and actions, bound to the
+ * session DriverManager currently holds for that thread.
+ * Resolved elements are cached per locator until navigation or a frame switch;
+ * a cached handle that has gone stale is resolved again transparently.
  */
 public class ElementUtils {
-    private static WebDriver driver = DriverManager.getDriver();
-    private static WebDriverWait wait;
-    private static Actions actions;
+    private static final ThreadLocal<DriverContext> context = new ThreadLocal<>();
+    private static final WaitEngine defaultEngine = resolveEngine();
+    private static final boolean elementCacheEnabled = TestConfig.isElementCacheEnabled();
+    
+    /**
+     * Returns [strategy, value] specs mapped to state objects, null for elements not found
+     */
+    private static final String SNAPSHOT_SCRIPT =
+            "var specs = arguments[0], attrs = arguments[1];" +
+            LocatorScript.FINDER +
+            "return specs.map(function (spec) {" +
+            "  var el;" +
+            "  try { el = find(spec); } catch (e) { el = null; }" +
+            "  if (!el) return null;" +
+            "  var visible = isVisible(el), values = {};" +
+            "  attrs.forEach(function (name) { values[name] = name in el && typeof el[name] !== 'object' && typeof el[name] !== 'function'" +
+            "    ? (el[name] == null ? null : String(el[name])) : el.getAttribute(name); });" +
+            "  return {displayed: visible, enabled: !el.matches(':disabled'), selected: !!(el.checked || el.selected)," +
+            "    text: visible ? (el.innerText || '').trim() : '', attributes: values};" +
+            "});";
+    
+    /**
+     * Get the calling thread's context, rebuilding it if the thread now holds a different driver
+     */
+    private static DriverContext context() {
+        WebDriver current = DriverManager.getDriver();
+        DriverContext ctx = context.get();
+        if (ctx == null || ctx.driver != current) {
+            ctx = new DriverContext(current);
+            context.set(ctx);
+        }
+        return ctx;
+    }
+    
+    private static WebDriver driver() {
+        return context().driver;
+    }
+    
+    private static WebDriverWait waiter() {
+        return context().wait;
+    }
+    
+    /**
+     * System.nanoTime() at which a wait starting now runs out of the explicit budget
+     */
+    private static long deadline() {
+        return System.nanoTime() + WaitStrategy.getExplicitTimeout().toNanos();
+    }
+    
+    private static Duration remaining(long deadline) {
+        return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
+    
+    /**
+     * Polling wait for what is left of a budget, so a fallback never restarts the explicit wait
+     */
+    private static WebDriverWait waiterUntil(long deadline) {
+        return WaitStrategy.newWait(context().driver, remaining(deadline));
+    }
+    
+    private static WaitEngine resolveEngine() {
+        String name = TestConfig.getWaitEngine().trim();
+        try {
+            return WaitEngine.valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unknown wait.engine '" + name + "', expected polling or mutation", e);
+        }
+    }
+    
+    private static Actions actions() {
+        return context().actions;
+    }
+    
+    /**
+     * Drop the calling thread's context, e.g. after its driver was released
+     */
+    public static void clearContext() {
+        context.remove();
+    }
+    
+    /**
+     * Forget cached element handles for the calling thread, e.g. after navigating
+     * or switching to another frame or window
+     */
+    public static void invalidateElementCache() {
+        DriverContext ctx = context.get();
+        if (ctx != null) {
+            ctx.elements.clear();
+        }
+    }
+    
+    /**
+     * Reuse the handle last resolved for the locator if it is still attached and,
+     * when required, visible and enabled
+     *
+     * @return null if there is no usable cached handle
+     */
+    private static WebElement cached(By locator, boolean visible, boolean enabled) {
+        if (!elementCacheEnabled) {
+            return null;
+        }
+        DriverContext ctx = context();
+        WebElement element = ctx.elements.get(locator);
+        if (element == null) {
+            return null;
+        }
+        try {
+            if (visible && !element.isDisplayed() || enabled && !element.isEnabled()) {
+                return null;
+            }
+            if (!visible && !enabled) {
+                // Touch the handle so a stale one is detected
+                element.getTagName();
+            }
+            return element;
+        } catch (StaleElementReferenceException e) {
+            ctx.elements.remove(locator);
+            return null;
+        }
+    }
     
-    static {
-        wait = new WebDriverWait(driver, Duration.ofSeconds(TestConfig.getExplicitWait()));
-        actions = new Actions(driver);
+    private static WebElement remember(By locator, WebElement element) {
+        if (elementCacheEnabled && element != null) {
+            context().elements.put(locator, element);
+        }
+        return element;
+    }
+    
+    /**
+     * Run an action on the resolved element, resolving it again once if the handle went stale
+     */
+    private static <T> T withElement(By locator, Function<By, WebElement> resolve, Function<WebElement, T> action) {
+        try {
+            return action.apply(resolve.apply(locator));
+        } catch (StaleElementReferenceException e) {
+            DriverContext ctx = context.get();
+            if (ctx != null) {
+                ctx.elements.remove(locator);
+            }
+            return action.apply(resolve.apply(locator));
+        }
     }
     
     /**
      * Wait for element to be visible
      */
     public static WebElement waitForElementVisible(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return waitForElementVisible(locator, defaultEngine);
+    }
+    
+    /**
+     * Wait for element to be visible using the given wait engine
+     */
+    public static WebElement waitForElementVisible(By locator, WaitEngine engine) {
+        WebElement element = cached(locator, true, false);
+        if (element != null) {
+            return element;
+        }
+        WebDriverWait wait = waiter();
+        if (useMutation(locator, engine)) {
+            long deadline = deadline();
+            element = awaitMutation(locator, MutationWaits.Condition.VISIBLE, null, deadline);
+            if (element != null) {
+                return remember(locator, element);
+            }
+            wait = waiterUntil(deadline);
+        }
+        return remember(locator, wait.until(
+                ExpectedConditions.visibilityOfElementLocated(LocatorProfiler.profiled(locator))));
     }
     
     /**
      * Wait for element to be clickable
      */
     public static WebElement waitForElementClickable(By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return waitForElementClickable(locator, defaultEngine);
+    }
+    
+    /**
+     * Wait for element to be clickable using the given wait engine
+     */
+    public static WebElement waitForElementClickable(By locator, WaitEngine engine) {
+        WebElement element = cached(locator, true, true);
+        if (element != null) {
+            return element;
+        }
+        WebDriverWait wait = waiter();
+        if (useMutation(locator, engine)) {
+            long deadline = deadline();
+            element = awaitMutation(locator, MutationWaits.Condition.CLICKABLE, null, deadline);
+            if (element != null) {
+                return remember(locator, element);
+            }
+            wait = waiterUntil(deadline);
+        }
+        return remember(locator, wait.until(
+                ExpectedConditions.elementToBeClickable(LocatorProfiler.profiled(locator))));
     }
     
     /**
      * Wait for element to be present in DOM
      */
     public static WebElement waitForElementPresent(By locator) {
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return waitForElementPresent(locator, defaultEngine);
+    }
+    
+    /**
+     * Wait for element to be present in DOM using the given wait engine
+     */
+    public static WebElement waitForElementPresent(By locator, WaitEngine engine) {
+        WebElement element = cached(locator, false, false);
+        if (element != null) {
+            return element;
+        }
+        WebDriverWait wait = waiter();
+        if (useMutation(locator, engine)) {
+            long deadline = deadline();
+            element = awaitMutation(locator, MutationWaits.Condition.PRESENT, null, deadline);
+            if (element != null) {
+                return remember(locator, element);
+            }
+            wait = waiterUntil(deadline);
+        }
+        return remember(locator, wait.until(
+                ExpectedConditions.presenceOfElementLocated(LocatorProfiler.profiled(locator))));
     }
     
     /**
      * Wait for element to disappear
      */
     public static boolean waitForElementInvisible(By locator) {
-        return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return waiter().until(
+                ExpectedConditions.invisibilityOfElementLocated(LocatorProfiler.profiled(locator)));
     }
     
     /**
      * Wait for text to be present in element
      */
     public static boolean waitForTextPresent(By locator, String text) {
-        return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        return waitForTextPresent(locator, text, defaultEngine);
+    }
+    
+    /**
+     * Wait for text to be present in element using the given wait engine
+     */
+    public static boolean waitForTextPresent(By locator, String text, WaitEngine engine) {
+        WebDriverWait wait = waiter();
+        if (useMutation(locator, engine)) {
+            long deadline = deadline();
+            if (awaitMutation(locator, MutationWaits.Condition.TEXT, text, deadline) != null) {
+                return true;
+            }
+            wait = waiterUntil(deadline);
+        }
+        return wait.until(
+                ExpectedConditions.textToBePresentInElementLocated(LocatorProfiler.profiled(locator), text));
+    }
+    
+    private static boolean useMutation(By locator, WaitEngine engine) {
+        return engine == WaitEngine.MUTATION && !context().scriptsBlocked && MutationWaits.supports(locator);
+    }
+    
+    /**
+     * Run an event-driven wait until the deadline
+     *
+     * @return null if the script could not run and the caller should fall back to
+     *         polling for the rest of the budget
+     */
+    private static WebElement awaitMutation(By locator, MutationWaits.Condition condition, String text,
+                                            long deadline) {
+        DriverContext ctx = context();
+        try {
+            return MutationWaits.await(ctx.driver, locator, condition, text, remaining(deadline));
+        } catch (TimeoutException e) {
+            throw e;
+        } catch (WebDriverException e) {
+            // A navigation unloads the script; anything else means scripts are blocked for this session
+            String message = String.valueOf(e.getMessage());
+            if (!message.contains("unloaded")) {
+                ctx.scriptsBlocked = true;
+                System.err.println("Event-driven waits unavailable, falling back to polling: " + message);
+            }
+            return null;
+        }
     }
     
     /**
@@ -69,93 +322,242 @@ public class ElementUtils {
      * Find all elements
      */
     public static List<WebElement> findElements(By locator) {
-        return driver.findElements(locator);
+        return driver().findElements(LocatorProfiler.profiled(locator));
     }
     
     /**
      * Click element
      */
     public static void click(By locator) {
-        WebElement element = waitForElementClickable(locator);
-        try {
-            element.click();
-        } catch (ElementClickInterceptedException e) {
-            // Try JavaScript click if regular click fails
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
-        }
+        withElement(locator, ElementUtils::waitForElementClickable, element -> {
+            try {
+                element.click();
+            } catch (ElementClickInterceptedException e) {
+                // Try JavaScript click if regular click fails
+                ((JavascriptExecutor) driver()).executeScript("arguments[0].click();", element);
+            }
+            return null;
+        });
     }
     
     /**
      * Click element with JavaScript
      */
     public static void clickWithJS(By locator) {
-        WebElement element = findElement(locator);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+        withElement(locator, ElementUtils::findElement,
+                element -> ((JavascriptExecutor) driver()).executeScript("arguments[0].click();", element));
     }
     
     /**
      * Send keys to element
      */
     public static void sendKeys(By locator, String text) {
-        WebElement element = waitForElementVisible(locator);
-        element.clear();
-        element.sendKeys(text);
+        withElement(locator, ElementUtils::waitForElementVisible, element -> {
+            element.clear();
+            element.sendKeys(text);
+            return null;
+        });
     }
     
     /**
      * Send keys without clearing
      */
     public static void sendKeysWithoutClear(By locator, String text) {
-        WebElement element = waitForElementVisible(locator);
-        element.sendKeys(text);
+        withElement(locator, ElementUtils::waitForElementVisible, element -> {
+            element.sendKeys(text);
+            return null;
+        });
     }
     
     /**
      * Get text from element
      */
     public static String getText(By locator) {
-        WebElement element = waitForElementVisible(locator);
-        return element.getText();
+        return withElement(locator, ElementUtils::waitForElementVisible, WebElement::getText);
     }
     
     /**
      * Get attribute value
      */
     public static String getAttribute(By locator, String attribute) {
-        WebElement element = findElement(locator);
-        return element.getAttribute(attribute);
+        return withElement(locator, ElementUtils::findElement, element -> element.getAttribute(attribute));
     }
     
     /**
-     * Check if element is displayed
+     * Check if element is displayed, waiting up to the explicit wait for it to appear.
+     * Use isElementAbsent() to check that an element is not shown.
      */
     public static boolean isElementDisplayed(By locator) {
+        return findVisible(locator) != null;
+    }
+    
+    /**
+     * Check if element is enabled once it is visible
+     */
+    public static boolean isElementEnabled(By locator) {
+        WebElement element = findVisible(locator);
+        return element != null && element.isEnabled();
+    }
+    
+    /**
+     * Check if element is selected once it is visible
+     */
+    public static boolean isElementSelected(By locator) {
+        WebElement element = findVisible(locator);
+        return element != null && element.isSelected();
+    }
+    
+    /**
+     * Wait up to the explicit wait for element to be visible and enabled, e.g. a
+     * button enabled by an input handler
+     *
+     * @return false if the element is not enabled in time
+     */
+    public static boolean waitUntilEnabled(By locator) {
         try {
-            return findElement(locator).isDisplayed();
-        } catch (NoSuchElementException | TimeoutException e) {
+            return waitForElementClickable(locator) != null;
+        } catch (TimeoutException e) {
             return false;
         }
     }
     
     /**
-     * Check if element is enabled
+     * Check that an element is missing or hidden, allowing the quick budget for it to go away
      */
-    public static boolean isElementEnabled(By locator) {
+    public static boolean isElementAbsent(By locator) {
         try {
-            return findElement(locator).isEnabled();
-        } catch (NoSuchElementException | TimeoutException e) {
+            return context().quickWait.until(
+                    ExpectedConditions.invisibilityOfElementLocated(LocatorProfiler.profiled(locator)));
+        } catch (TimeoutException e) {
             return false;
         }
     }
     
     /**
-     * Check if element is selected
+     * Check if element becomes visible within the quick budget, for checks where
+     * "not shown" is an expected answer. Use isElementDisplayed() to wait for it.
      */
-    public static boolean isElementSelected(By locator) {
+    public static boolean isElementVisibleNow(By locator) {
+        return findQuickly(locator) != null;
+    }
+    
+    /**
+     * Get text from element if it becomes visible within the quick budget
+     *
+     * @return null if the element is not visible
+     */
+    public static String getTextIfPresent(By locator) {
+        WebElement element = findQuickly(locator);
+        return element != null ? element.getText() : null;
+    }
+    
+    /**
+     * Capture visibility, enabled, selected, text and the requested attributes of the
+     * first element matching each locator in a single script call, instead of one or
+     * more WebDriver commands per element. Does not wait for elements to appear.
+     *
+     * @return states keyed by locator, in the order given
+     */
+    public static Map<By, ElementState> snapshot(List<By> locators, String... attributes) {
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        List<By> scripted = new ArrayList<>();
+        List<List<String>> specs = new ArrayList<>();
+        for (By locator : locators) {
+            List<String> spec = LocatorScript.toSpec(locator);
+            if (spec != null) {
+                scripted.add(locator);
+                specs.add(spec);
+            }
+            states.put(locator, null);
+        }
+        DriverContext ctx = context();
+        if (!scripted.isEmpty() && !ctx.scriptsBlocked) {
+            try {
+                Object result = ((JavascriptExecutor) ctx.driver).executeScript(
+                        SNAPSHOT_SCRIPT, specs, Arrays.asList(attributes));
+                List<?> rows = (List<?>) result;
+                for (int i = 0; i < scripted.size(); i++) {
+                    states.put(scripted.get(i), toState(scripted.get(i), (Map<?, ?>) rows.get(i)));
+                }
+            } catch (WebDriverException | ClassCastException e) {
+                System.err.println("Snapshot script failed, querying elements one by one: " + e.getMessage());
+            }
+        }
+        for (Map.Entry<By, ElementState> entry : states.entrySet()) {
+            if (entry.getValue() == null) {
+                entry.setValue(queryState(entry.getKey(), attributes));
+            }
+        }
+        return states;
+    }
+    
+    private static ElementState toState(By locator, Map<?, ?> row) {
+        if (row == null) {
+            return ElementState.absent(locator);
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        Object attributes = row.get("attributes");
+        if (attributes instanceof Map) {
+            for (Map.Entry<?, ?> attribute : ((Map<?, ?>) attributes).entrySet()) {
+                values.put(String.valueOf(attribute.getKey()),
+                        attribute.getValue() == null ? null : String.valueOf(attribute.getValue()));
+            }
+        }
+        return new ElementState(locator, true, Boolean.TRUE.equals(row.get("displayed")),
+                Boolean.TRUE.equals(row.get("enabled")), Boolean.TRUE.equals(row.get("selected")),
+                String.valueOf(row.get("text")), values);
+    }
+    
+    /**
+     * Fallback for locators the snapshot script cannot resolve
+     */
+    private static ElementState queryState(By locator, String... attributes) {
         try {
-            return findElement(locator).isSelected();
-        } catch (NoSuchElementException | TimeoutException e) {
-            return false;
+            List<WebElement> found = driver().findElements(LocatorProfiler.profiled(locator));
+            if (found.isEmpty()) {
+                return ElementState.absent(locator);
+            }
+            WebElement element = found.get(0);
+            Map<String, String> values = new LinkedHashMap<>();
+            for (String attribute : attributes) {
+                values.put(attribute, element.getAttribute(attribute));
+            }
+            boolean displayed = element.isDisplayed();
+            return new ElementState(locator, true, displayed, element.isEnabled(), element.isSelected(),
+                    displayed ? element.getText() : "", values);
+        } catch (StaleElementReferenceException e) {
+            return ElementState.absent(locator);
+        }
+    }
+    
+    /**
+     * Find a visible element within the explicit wait
+     *
+     * @return null if the element is not visible in time
+     */
+    private static WebElement findVisible(By locator) {
+        try {
+            return waitForElementVisible(locator);
+        } catch (TimeoutException | StaleElementReferenceException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Find a visible element within the quick budget
+     *
+     * @return null if the element is not visible in time
+     */
+    private static WebElement findQuickly(By locator) {
+        WebElement element = cached(locator, true, false);
+        if (element != null) {
+            return element;
+        }
+        try {
+            return remember(locator, context().quickWait.until(
+                    ExpectedConditions.visibilityOfElementLocated(LocatorProfiler.profiled(locator))));
+        } catch (TimeoutException | StaleElementReferenceException e) {
+            return null;
         }
     }
     
@@ -220,7 +622,7 @@ public class ElementUtils {
      */
     public static void hoverOver(By locator) {
         WebElement element = findElement(locator);
-        actions.moveToElement(element).perform();
+        actions().moveToElement(element).perform();
     }
     
     /**
@@ -228,7 +630,7 @@ public class ElementUtils {
      */
     public static void doubleClick(By locator) {
         WebElement element = findElement(locator);
-        actions.doubleClick(element).perform();
+        actions().doubleClick(element).perform();
     }
     
     /**
@@ -236,7 +638,7 @@ public class ElementUtils {
      */
     public static void rightClick(By locator) {
         WebElement element = findElement(locator);
-        actions.contextClick(element).perform();
+        actions().contextClick(element).perform();
     }
     
     /**
@@ -245,7 +647,7 @@ public class ElementUtils {
     public static void dragAndDrop(By source, By target) {
         WebElement sourceElement = findElement(source);
         WebElement targetElement = findElement(target);
-        actions.dragAndDrop(sourceElement, targetElement).perform();
+        actions().dragAndDrop(sourceElement, targetElement).perform();
     }
     
     /**
@@ -253,29 +655,40 @@ public class ElementUtils {
      */
     public static void scrollToElement(By locator) {
         WebElement element = findElement(locator);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
+        ((JavascriptExecutor) driver()).executeScript("arguments[0].scrollIntoView(true);", element);
     }
     
     /**
      * Scroll to bottom of page
      */
     public static void scrollToBottom() {
-        ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
+        ((JavascriptExecutor) driver()).executeScript("window.scrollTo(0, document.body.scrollHeight);");
     }
     
     /**
      * Scroll to top of page
      */
     public static void scrollToTop() {
-        ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 0);");
+        ((JavascriptExecutor) driver()).executeScript("window.scrollTo(0, 0);");
     }
     
     /**
-     * Wait for page to load
+     * Wait for page to be ready according to the configured readiness probes
      */
     public static void waitForPageLoad() {
-        wait.until(webDriver -> ((JavascriptExecutor) webDriver)
-                .executeScript("return document.readyState").equals("complete"));
+        PageReadiness.await(driver());
+    }
+    
+    /**
+     * Wait for page to be ready for interaction with the given element. The visible
+     * anchor shows the part of the page the caller needs has rendered, so only the
+     * framework probe still applies; network and load probes are skipped.
+     */
+    public static void waitForPageLoad(By anchor) {
+        waitForElementVisible(anchor);
+        if (PageReadiness.getProbes().contains(PageReadiness.Probe.FRAMEWORK)) {
+            PageReadiness.await(driver(), Collections.singletonList(PageReadiness.Probe.FRAMEWORK));
+        }
     }
     
     /**
@@ -283,7 +696,7 @@ public class ElementUtils {
      */
     public static void waitForJQueryLoad() {
         try {
-            wait.until(webDriver -> ((JavascriptExecutor) webDriver)
+            waiter().until(webDriver -> ((JavascriptExecutor) webDriver)
                     .executeScript("return jQuery.active == 0"));
         } catch (Exception e) {
             // jQuery might not be present
@@ -295,7 +708,7 @@ public class ElementUtils {
      */
     public static void waitForAngularLoad() {
         try {
-            wait.until(webDriver -> ((JavascriptExecutor) webDriver)
+            waiter().until(webDriver -> ((JavascriptExecutor) webDriver)
                     .executeScript("return angular.element(document).injector().get('$http').pendingRequests.length === 0"));
         } catch (Exception e) {
             // Angular might not be present
@@ -306,14 +719,16 @@ public class ElementUtils {
      * Switch to frame by index
      */
     public static void switchToFrame(int index) {
-        driver.switchTo().frame(index);
+        driver().switchTo().frame(index);
+        invalidateElementCache();
     }
     
     /**
      * Switch to frame by name or id
      */
     public static void switchToFrame(String nameOrId) {
-        driver.switchTo().frame(nameOrId);
+        driver().switchTo().frame(nameOrId);
+        invalidateElementCache();
     }
     
     /**
@@ -321,52 +736,74 @@ public class ElementUtils {
      */
     public static void switchToFrame(By locator) {
         WebElement frameElement = findElement(locator);
-        driver.switchTo().frame(frameElement);
+        driver().switchTo().frame(frameElement);
+        invalidateElementCache();
     }
     
     /**
      * Switch to default content
      */
     public static void switchToDefaultContent() {
-        driver.switchTo().defaultContent();
+        driver().switchTo().defaultContent();
+        invalidateElementCache();
     }
     
     /**
      * Switch to parent frame
      */
     public static void switchToParentFrame() {
-        driver.switchTo().parentFrame();
+        driver().switchTo().parentFrame();
+        invalidateElementCache();
     }
     
     /**
      * Accept alert
      */
     public static void acceptAlert() {
-        wait.until(ExpectedConditions.alertIsPresent());
-        driver.switchTo().alert().accept();
+        waiter().until(ExpectedConditions.alertIsPresent());
+        driver().switchTo().alert().accept();
     }
     
     /**
      * Dismiss alert
      */
     public static void dismissAlert() {
-        wait.until(ExpectedConditions.alertIsPresent());
-        driver.switchTo().alert().dismiss();
+        waiter().until(ExpectedConditions.alertIsPresent());
+        driver().switchTo().alert().dismiss();
     }
     
     /**
      * Get alert text
      */
     public static String getAlertText() {
-        wait.until(ExpectedConditions.alertIsPresent());
-        return driver.switchTo().alert().getText();
+        waiter().until(ExpectedConditions.alertIsPresent());
+        return driver().switchTo().alert().getText();
     }
     
     /**
      * Send keys to alert
      */
     public static void sendKeysToAlert(String text) {
-        wait.until(ExpectedConditions.alertIsPresent());
-        driver.switchTo().alert().sendKeys(text);
+        waiter().until(ExpectedConditions.alertIsPresent());
+        driver().switchTo().alert().sendKeys(text);
+    }
+    
+    /**
+     * Per-thread driver with its wait, actions and resolved element handles
+     */
+    private static class DriverContext {
+        private final WebDriver driver;
+        private final WebDriverWait wait;
+        private final WebDriverWait quickWait;
+        private final Actions actions;
+        private boolean scriptsBlocked;
+        private final Map<By, WebElement> elements = new HashMap<>();
+        
+        DriverContext(WebDriver driver) {
+            this.driver = driver;
+            this.wait = WaitStrategy.newWait(driver, WaitStrategy.getExplicitTimeout());
+            this.quickWait = WaitStrategy.newWait(driver, WaitStrategy.getQuickTimeout());
+            this.actions = new Actions(driver);
+        }
     }
-} 
\ No newline at end of file
+}
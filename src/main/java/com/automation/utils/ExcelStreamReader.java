@@ -0,0 +1,254 @@
+package com.automation.utils;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming reader for a single XLSX sheet. Rows are parsed from the sheet XML
+ * on demand, so memory use does not grow with the number of rows and the first
+ * row is available as soon as the file is opened.
+ * Cell values are returned as strings, the same way ExcelUtils reads them;
+ * gaps between cells are filled with empty strings and blank rows are skipped.
+ * The reader closes itself once the last row has been returned.
+ */
+public class ExcelStreamReader implements Iterator<Object[]>, Closeable {
+    private final String sheetName;
+    private OPCPackage pkg;
+    private InputStream sheetStream;
+    private XMLStreamReader xml;
+    private ReadOnlySharedStringsTable sharedStrings;
+    private List<String> headers = Collections.emptyList();
+    private Object[] nextRow;
+
+    /**
+     * Open a sheet for reading
+     *
+     * @throws IllegalArgumentException if the workbook has no sheet with this name
+     */
+    public ExcelStreamReader(String filePath, String sheetName, boolean headerRow) throws IOException {
+        this.sheetName = sheetName;
+        boolean found = true;
+        try {
+            pkg = OPCPackage.open(filePath, PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(pkg);
+            sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                InputStream stream = sheets.next();
+                if (sheets.getSheetName().equals(sheetName)) {
+                    sheetStream = stream;
+                    break;
+                }
+                stream.close();
+            }
+            if (sheetStream != null) {
+                xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetStream);
+                nextRow = readRow();
+                if (headerRow && nextRow != null) {
+                    List<String> names = new ArrayList<>();
+                    for (Object name : nextRow) {
+                        names.add((String) name);
+                    }
+                    headers = Collections.unmodifiableList(names);
+                    nextRow = readRow();
+                }
+            } else {
+                found = false;
+            }
+            if (nextRow == null) {
+                close();
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        } catch (Exception e) {
+            close();
+            throw new IOException("Failed to open sheet " + sheetName + " in " + filePath, e);
+        }
+        if (!found) {
+            // A misspelt sheet name must not turn into a data provider with no rows
+            throw new IllegalArgumentException("Sheet not found: " + sheetName + " in " + filePath);
+        }
+    }
+
+    /**
+     * List the sheet names of a workbook in workbook order
+     */
+    public static List<String> getSheetNames(String filePath) throws IOException {
+        OPCPackage pkg = null;
+        try {
+            pkg = OPCPackage.open(filePath, PackageAccess.READ);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+            List<String> names = new ArrayList<>();
+            while (sheets.hasNext()) {
+                sheets.next().close();
+                names.add(sheets.getSheetName());
+            }
+            return names;
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Failed to list sheets in " + filePath, e);
+        } finally {
+            if (pkg != null) {
+                pkg.revert();
+            }
+        }
+    }
+
+    /**
+     * Header row values, empty unless the reader was opened with a header row
+     */
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextRow != null;
+    }
+
+    @Override
+    public Object[] next() {
+        if (nextRow == null) {
+            throw new NoSuchElementException();
+        }
+        Object[] row = nextRow;
+        try {
+            nextRow = readRow();
+        } catch (XMLStreamException e) {
+            close();
+            throw new RuntimeException("Failed to read sheet " + sheetName, e);
+        }
+        if (nextRow == null) {
+            close();
+        }
+        return row;
+    }
+
+    @Override
+    public void close() {
+        nextRow = null;
+        try {
+            if (xml != null) {
+                xml.close();
+            }
+            if (sheetStream != null) {
+                sheetStream.close();
+            }
+        } catch (XMLStreamException | IOException e) {
+            System.err.println("Error closing sheet stream: " + e.getMessage());
+        } finally {
+            xml = null;
+            sheetStream = null;
+            if (pkg != null) {
+                pkg.revert();
+                pkg = null;
+            }
+        }
+    }
+
+    /**
+     * Advance to the next non-blank row
+     */
+    private Object[] readRow() throws XMLStreamException {
+        while (xml.hasNext()) {
+            if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                List<String> cells = readCells();
+                for (String cell : cells) {
+                    if (!cell.isEmpty()) {
+                        return cells.toArray();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private List<String> readCells() throws XMLStreamException {
+        List<String> cells = new ArrayList<>();
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                int column = columnIndex(xml.getAttributeValue(null, "r"), cells.size());
+                while (cells.size() < column) {
+                    cells.add("");
+                }
+                cells.add(readCellValue(xml.getAttributeValue(null, "t")));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Read a cell's value; numeric and error cells keep their raw stored text
+     */
+    private String readCellValue(String type) throws XMLStreamException {
+        StringBuilder value = new StringBuilder();
+        StringBuilder inline = new StringBuilder();
+        boolean inPhonetic = false;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("c".equals(name)) {
+                    break;
+                }
+                if ("rPh".equals(name)) {
+                    inPhonetic = false;
+                }
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("v".equals(name)) {
+                    value.append(xml.getElementText());
+                } else if ("t".equals(name) && !inPhonetic) {
+                    inline.append(xml.getElementText());
+                } else if ("rPh".equals(name)) {
+                    inPhonetic = true;
+                }
+            }
+        }
+        if ("s".equals(type)) {
+            return value.length() == 0 ? "" : sharedStrings.getItemAt(Integer.parseInt(value.toString())).getString();
+        }
+        if ("inlineStr".equals(type)) {
+            return inline.toString();
+        }
+        if ("b".equals(type)) {
+            return "1".equals(value.toString()) ? "TRUE" : "FALSE";
+        }
+        return value.toString();
+    }
+
+    /**
+     * Convert a cell reference such as "C7" to a zero-based column index
+     */
+    private static int columnIndex(String reference, int fallback) {
+        if (reference == null) {
+            return fallback;
+        }
+        int column = 0;
+        for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+            column = column * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+        }
+        return column - 1;
+    }
+}
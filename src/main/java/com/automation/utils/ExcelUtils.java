@@ -1,60 +1,54 @@
 package com.automation.utils;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Utility class for reading Excel files (XLSX) for test cases and data
+ * Utility class for reading Excel files (XLSX) for test cases and data.
+ * Parsed sheets come from the shared WorkbookCache, so opening the same file
+ * from several test classes only parses it once.
+ * Numbers keep the text Excel stored for them, as setCellType(STRING) gave;
+ * empty cells between values are returned as "" and rows without values are
+ * skipped, where the workbook-based reader collapsed gaps and kept empty rows.
  */
 public class ExcelUtils {
     private String filePath;
-    private Workbook workbook;
+    private Map<String, ParsedSheet> sheets;
 
     public ExcelUtils(String filePath) throws IOException {
         this.filePath = filePath;
-        FileInputStream fis = new FileInputStream(filePath);
-        this.workbook = new XSSFWorkbook(fis);
+        this.sheets = WorkbookCache.get(filePath);
     }
 
     public List<List<String>> getSheetData(String sheetName) {
-        List<List<String>> data = new ArrayList<>();
-        Sheet sheet = workbook.getSheet(sheetName);
-        if (sheet == null) return data;
-        Iterator<Row> rowIterator = sheet.iterator();
-        while (rowIterator.hasNext()) {
-            Row row = rowIterator.next();
-            List<String> rowData = new ArrayList<>();
-            for (Cell cell : row) {
-                cell.setCellType(CellType.STRING);
-                rowData.add(cell.getStringCellValue());
-            }
-            data.add(rowData);
-        }
-        return data;
+        ParsedSheet sheet = sheets.get(sheetName);
+        if (sheet == null) return new ArrayList<>();
+        return sheet.toRows();
     }
 
     public List<String> getSheetHeaders(String sheetName) {
-        List<String> headers = new ArrayList<>();
-        Sheet sheet = workbook.getSheet(sheetName);
-        if (sheet == null) return headers;
-        Row headerRow = sheet.getRow(0);
-        if (headerRow == null) return headers;
-        for (Cell cell : headerRow) {
-            cell.setCellType(CellType.STRING);
-            headers.add(cell.getStringCellValue());
-        }
-        return headers;
+        ParsedSheet sheet = sheets.get(sheetName);
+        if (sheet == null || sheet.getRowCount() == 0) return new ArrayList<>();
+        return new ArrayList<>(sheet.getRow(0));
+    }
+
+    /**
+     * Stream a sheet's data rows lazily, skipping the header row.
+     * The returned iterator can be returned directly from a TestNG DataProvider.
+     *
+     * @throws IllegalArgumentException if the workbook has no sheet with this name
+     */
+    public static Iterator<Object[]> streamSheetData(String filePath, String sheetName) throws IOException {
+        return new ExcelStreamReader(filePath, sheetName, true);
     }
 
+    /**
+     * Release this reader; the parsed workbook stays in the shared cache
+     */
     public void close() throws IOException {
-        if (workbook != null) {
-            workbook.close();
-        }
+        sheets = null;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package com.automation.utils;
+
+import com.automation.config.TestConfig;
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Combines the Extent JSON archives written by sharded runs into one Spark report.
+ *
+ * Usage: ExtentReportMerger [output.html] [archive.json | directory ...]
+ * Defaults to every *.json archive in extent.report.path, merged into
+ * Merged_Test_Report.html in the same directory.
+ */
+public class ExtentReportMerger {
+    public static final String ARCHIVE_SUFFIX = ".json";
+
+    /**
+     * Archive file a run writes alongside its HTML report, e.g. chrome-shard-1-of-3.json
+     */
+    public static String getArchivePath(String browser, int shardIndex, int shardCount) {
+        return TestConfig.getExtentReportPath() + browser + "-shard-" + shardIndex + "-of-" + shardCount + ARCHIVE_SUFFIX;
+    }
+
+    /**
+     * Merge archives into one Spark report
+     *
+     * @param output   report file to write
+     * @param archives archive files, or directories whose *.json archives are merged
+     * @return number of archives merged
+     */
+    public static int merge(Path output, List<Path> archives) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path archive : archives) {
+            if (Files.isDirectory(archive)) {
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(archive, "*" + ARCHIVE_SUFFIX)) {
+                    entries.forEach(files::add);
+                }
+            } else {
+                files.add(archive);
+            }
+        }
+        // Sorted so shards appear in the same order in every merged report
+        Collections.sort(files);
+        if (files.isEmpty()) {
+            return 0;
+        }
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(new ExtentSparkReporter(output.toFile()));
+        for (Path file : files) {
+            extent.createDomainFromJsonArchive(file.toFile());
+        }
+        extent.flush();
+        return files.size();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path output = args.length > 0
+                ? Paths.get(args[0])
+                : Paths.get(TestConfig.getExtentReportPath(), "Merged_Test_Report.html");
+        List<Path> archives = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            archives.add(Paths.get(args[i]));
+        }
+        if (archives.isEmpty()) {
+            archives.add(Paths.get(TestConfig.getExtentReportPath()));
+        }
+        int merged = merge(output, archives);
+        if (merged == 0) {
+            System.err.println("No Extent archives found in " + archives);
+            System.exit(1);
+        }
+        System.out.println("Merged " + merged + " archives into " + output);
+    }
+}
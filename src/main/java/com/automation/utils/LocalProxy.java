@@ -0,0 +1,405 @@
+package com.automation.utils;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+/**
+ * Minimal HTTP forward proxy on the loopback interface, for request blocking in
+ * browsers without DevTools and for the shared asset cache. Plain HTTP requests
+ * are checked by their full URL and their GET responses may be cached. HTTPS is
+ * tunneled with CONNECT, which only reveals the host, so it is checked as
+ * "https://host/" and passes through uncached. Each forwarded request uses its
+ * own upstream connection.
+ */
+final class LocalProxy {
+    private static final int MAX_HEAD_BYTES = 64 * 1024;
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final ServerSocket server;
+    private final ExecutorService workers;
+    private final Predicate<String> blocked;
+    private final AssetCache cache;
+    private final int timeoutMillis;
+
+    /**
+     * Start listening
+     *
+     * @param port    port to listen on, or 0 for any free port
+     * @param blocked returns true for URLs to refuse
+     * @param cache   cache for plain HTTP responses, or null
+     */
+    LocalProxy(int port, Predicate<String> blocked, AssetCache cache, int timeoutMillis) throws IOException {
+        this.blocked = blocked;
+        this.cache = cache;
+        this.timeoutMillis = timeoutMillis;
+        this.server = new ServerSocket();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        this.workers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "local-proxy");
+            thread.setDaemon(true);
+            return thread;
+        });
+        workers.execute(this::acceptLoop);
+    }
+
+    int getPort() {
+        return server.getLocalPort();
+    }
+
+    AssetCache getCache() {
+        return cache;
+    }
+
+    void stop() {
+        try {
+            server.close();
+        } catch (IOException e) {
+            System.err.println("Error stopping local proxy: " + e.getMessage());
+        }
+        workers.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                Socket client = server.accept();
+                workers.execute(() -> handle(client));
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    System.err.println("Local proxy accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void handle(Socket client) {
+        try (Socket socket = client) {
+            socket.setSoTimeout(timeoutMillis);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            String head = readHead(in);
+            if (head == null) {
+                return;
+            }
+            String[] lines = head.split("\r\n");
+            String[] requestLine = lines[0].split(" ");
+            if (requestLine.length != 3) {
+                respond(socket, 400, "Bad Request");
+                return;
+            }
+            if ("CONNECT".equals(requestLine[0])) {
+                tunnel(socket, in, requestLine[1]);
+            } else {
+                forward(socket, in, requestLine, lines);
+            }
+        } catch (IOException e) {
+            // Client or upstream went away; the browser retries or reports the failure
+        }
+    }
+
+    private void tunnel(Socket client, InputStream in, String authority) throws IOException {
+        int colon = authority.lastIndexOf(':');
+        String host = colon > 0 ? authority.substring(0, colon) : authority;
+        int port;
+        try {
+            port = colon > 0 ? Integer.parseInt(authority.substring(colon + 1)) : 443;
+        } catch (NumberFormatException e) {
+            respond(client, 400, "Bad Request");
+            return;
+        }
+        if (blocked.test("https://" + host + "/")) {
+            respond(client, 403, "Forbidden");
+            return;
+        }
+        try (Socket upstream = connect(host, port)) {
+            client.getOutputStream().write("HTTP/1.1 200 Connection Established\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            client.getOutputStream().flush();
+            relay(client, in, upstream);
+        }
+    }
+
+    private void forward(Socket client, InputStream in, String[] requestLine, String[] lines) throws IOException {
+        String target = requestLine[1];
+        URI uri;
+        try {
+            uri = URI.create(target);
+        } catch (IllegalArgumentException e) {
+            respond(client, 400, "Bad Request");
+            return;
+        }
+        if (!"http".equalsIgnoreCase(uri.getScheme()) || uri.getHost() == null) {
+            respond(client, 400, "Bad Request");
+            return;
+        }
+        if (blocked.test(target)) {
+            respond(client, 403, "Forbidden");
+            return;
+        }
+
+        String path = (uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath())
+                + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+        Map<String, String> headers = headers(lines);
+        if (cache != null && "GET".equals(requestLine[0])
+                && !headers.containsKey("authorization") && !headers.containsKey("range")) {
+            forwardCached(client, uri, target, requestLine, lines, path, headers);
+            return;
+        }
+        try (Socket upstream = connect(uri.getHost(), uri.getPort() > 0 ? uri.getPort() : 80)) {
+            upstream.getOutputStream().write(upstreamHead(requestLine, lines, path, ""));
+            relay(client, in, upstream);
+        }
+    }
+
+    /**
+     * Serve a GET from the asset cache when fresh, revalidate it when stale, and
+     * store cacheable responses on the way through
+     */
+    private void forwardCached(Socket client, URI uri, String target, String[] requestLine, String[] lines,
+                               String path, Map<String, String> headers) throws IOException {
+        String key = target + "|" + headers.getOrDefault("accept-encoding", "");
+        long now = System.currentTimeMillis();
+        AssetCache.Entry cached = cache.get(key);
+        if (cached != null && cached.isFresh(now)) {
+            if (serve(client, cached)) {
+                cache.recordHit();
+                return;
+            }
+            // The body went missing and the entry was dropped; fetch as if uncached
+            cached = null;
+        }
+
+        // Revalidate our own stale copy unless the browser is revalidating its copy
+        boolean revalidating = cached != null && !headers.containsKey("if-none-match")
+                && !headers.containsKey("if-modified-since")
+                && (cached.getEtag() != null || cached.getLastModified() != null);
+        StringBuilder conditions = new StringBuilder();
+        if (revalidating && cached.getEtag() != null) {
+            conditions.append("If-None-Match: ").append(cached.getEtag()).append("\r\n");
+        }
+        if (revalidating && cached.getLastModified() != null) {
+            conditions.append("If-Modified-Since: ").append(cached.getLastModified()).append("\r\n");
+        }
+
+        boolean refetch;
+        try (Socket upstream = connect(uri.getHost(), uri.getPort() > 0 ? uri.getPort() : 80)) {
+            upstream.getOutputStream().write(upstreamHead(requestLine, lines, path, conditions.toString()));
+            refetch = relayCacheable(client, upstream, key, revalidating ? cached : null, now);
+        }
+        if (refetch) {
+            // The browser asked unconditionally and must not see our 304. The entry
+            // was dropped with its missing body, so the retry fetches the full response.
+            forwardCached(client, uri, target, requestLine, lines, path, headers);
+        }
+    }
+
+    /**
+     * Relay the origin's response to the browser, storing it when cacheable
+     *
+     * @param revalidated our stale copy if the request carried its validators, else null
+     * @return true if the origin confirmed the stale copy but its body has gone missing
+     */
+    private boolean relayCacheable(Socket client, Socket upstream, String key, AssetCache.Entry revalidated,
+                                   long now) throws IOException {
+        try {
+            InputStream response = new BufferedInputStream(upstream.getInputStream());
+            String head = readHead(response);
+            if (head == null) {
+                return false;
+            }
+            String[] responseLines = head.split("\r\n");
+            String[] statusLine = responseLines[0].split(" ", 3);
+            int status = statusLine.length > 1 ? Integer.parseInt(statusLine[1]) : 0;
+            Map<String, String> responseHeaders = headers(responseLines);
+
+            if (revalidated != null && status == 304) {
+                long freshUntil = AssetCache.freshUntil(responseHeaders, now);
+                cache.refresh(revalidated, freshUntil > now ? freshUntil : now);
+                if (serve(client, revalidated)) {
+                    cache.recordHit();
+                    return false;
+                }
+                return true;
+            }
+            cache.recordMiss();
+
+            byte[] replayHead = replayHead(responseLines);
+            OutputStream out = client.getOutputStream();
+            out.write(replayHead);
+            long freshUntil = status == 200 ? AssetCache.freshUntil(responseHeaders, now) : -1;
+            if (freshUntil > now) {
+                // Buffer up to the entry limit; anything larger is streamed through uncached
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = response.read(buffer)) >= 0) {
+                    out.write(buffer, 0, read);
+                    if (body.size() + read > cache.getMaxEntryBytes()) {
+                        copy(response, out);
+                        return false;
+                    }
+                    body.write(buffer, 0, read);
+                }
+                cache.put(key, replayHead, body.toByteArray(), freshUntil,
+                        responseHeaders.get("etag"), responseHeaders.get("last-modified"));
+            } else {
+                copy(response, out);
+            }
+            out.flush();
+        } catch (NumberFormatException e) {
+            respond(client, 502, "Bad Gateway");
+        }
+        return false;
+    }
+
+    private boolean serve(Socket client, AssetCache.Entry entry) throws IOException {
+        byte[] body = cache.body(entry);
+        if (body == null) {
+            return false;
+        }
+        OutputStream out = client.getOutputStream();
+        out.write(entry.getHead());
+        out.write(body);
+        out.flush();
+        return true;
+    }
+
+    /**
+     * Request head for the origin: origin-form target, no hop-by-hop headers and
+     * one request per connection
+     */
+    private static byte[] upstreamHead(String[] requestLine, String[] lines, String path, String extraHeaders) {
+        StringBuilder head = new StringBuilder();
+        head.append(requestLine[0]).append(' ').append(path).append(' ').append(requestLine[2]).append("\r\n");
+        for (int i = 1; i < lines.length; i++) {
+            if (!isHopByHop(headerName(lines[i]))) {
+                head.append(lines[i]).append("\r\n");
+            }
+        }
+        head.append(extraHeaders).append("Connection: close\r\n\r\n");
+        return head.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Response head as sent to the browser, which gets one response per connection
+     */
+    private static byte[] replayHead(String[] responseLines) {
+        StringBuilder head = new StringBuilder(responseLines[0]).append("\r\n");
+        for (int i = 1; i < responseLines.length; i++) {
+            if (!isHopByHop(headerName(responseLines[i]))) {
+                head.append(responseLines[i]).append("\r\n");
+            }
+        }
+        head.append("Connection: close\r\n\r\n");
+        return head.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Headers by lower-case name; repeated headers are joined with commas
+     */
+    private static Map<String, String> headers(String[] lines) {
+        Map<String, String> headers = new HashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon > 0) {
+                headers.merge(lines[i].substring(0, colon).trim().toLowerCase(), lines[i].substring(colon + 1).trim(),
+                        (first, second) -> first + ", " + second);
+            }
+        }
+        return headers;
+    }
+
+    private static String headerName(String line) {
+        return line.substring(0, Math.max(0, line.indexOf(':'))).trim();
+    }
+
+    /**
+     * Copy bytes both ways until the upstream side finishes; the request body, if
+     * any, flows in the background
+     */
+    private void relay(Socket client, InputStream clientIn, Socket upstream) throws IOException {
+        workers.execute(() -> {
+            try {
+                copy(clientIn, upstream.getOutputStream());
+            } catch (IOException e) {
+                // Closed from the other direction
+            } finally {
+                closeQuietly(upstream);
+            }
+        });
+        try {
+            copy(upstream.getInputStream(), client.getOutputStream());
+        } finally {
+            closeQuietly(client);
+        }
+    }
+
+    private Socket connect(String host, int port) throws IOException {
+        Socket upstream = new Socket();
+        upstream.connect(new InetSocketAddress(host, port), timeoutMillis);
+        upstream.setSoTimeout(timeoutMillis);
+        return upstream;
+    }
+
+    private static boolean isHopByHop(String header) {
+        return header.equalsIgnoreCase("Connection") || header.equalsIgnoreCase("Proxy-Connection")
+                || header.equalsIgnoreCase("Keep-Alive") || header.equalsIgnoreCase("Proxy-Authorization");
+    }
+
+    private static void respond(Socket client, int status, String reason) throws IOException {
+        String response = "HTTP/1.1 " + status + " " + reason + "\r\nContent-Length: 0\r\nConnection: close\r\n\r\n";
+        client.getOutputStream().write(response.getBytes(StandardCharsets.US_ASCII));
+        client.getOutputStream().flush();
+    }
+
+    /**
+     * Read the request line and headers up to the blank line
+     *
+     * @return null if the client closed the connection first
+     */
+    private static String readHead(InputStream in) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        int lastFour = 0;
+        while (lastFour != 0x0D0A0D0A) {
+            int b = in.read();
+            if (b < 0) {
+                return null;
+            }
+            head.write(b);
+            if (head.size() > MAX_HEAD_BYTES) {
+                throw new IOException("Request head too large");
+            }
+            lastFour = (lastFour << 8) | b;
+        }
+        return head.toString(StandardCharsets.ISO_8859_1.name()).trim();
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+            out.flush();
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.automation.utils;
+
+import com.automation.config.TestConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every locator lookup ElementUtils sends to the browser and aggregates
+ * latency per locator across the suite. The report lists p50/p95 per locator,
+ * flags those above locator.profile.slow.ms and suggests an equivalent CSS
+ * selector for slow XPath locators where one exists.
+ */
+public class LocatorProfiler {
+    private static final int RESERVOIR_SIZE = 1024;
+    private static final boolean enabled = TestConfig.isLocatorProfilingEnabled();
+    private static final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Wrap a locator so lookups made through it are timed; returns it unchanged when profiling is off
+     */
+    public static By profiled(By locator) {
+        return enabled && !(locator instanceof ProfiledBy) ? new ProfiledBy(locator) : locator;
+    }
+
+    /**
+     * Record one lookup of the locator
+     */
+    public static void record(By locator, long nanos, boolean found) {
+        samples.computeIfAbsent(locator.toString(), key -> new Samples(locator)).add(nanos, found);
+    }
+
+    /**
+     * Drop all recorded samples
+     */
+    public static void reset() {
+        samples.clear();
+    }
+
+    /**
+     * Write the profile to locator-profile.txt in the log directory
+     *
+     * @return the report path, or null if profiling is off or nothing was recorded
+     */
+    public static Path writeReport() {
+        if (!enabled || samples.isEmpty()) {
+            return null;
+        }
+        long slowNanos = TimeUnit.MILLISECONDS.toNanos(TestConfig.getLocatorProfileSlowMillis());
+        List<Summary> summaries = new ArrayList<>();
+        for (Samples locatorSamples : samples.values()) {
+            summaries.add(locatorSamples.summarize());
+        }
+        summaries.sort((a, b) -> Long.compare(b.p95, a.p95));
+
+        StringBuilder report = new StringBuilder();
+        report.append("Locator profile, slowest p95 first (slow threshold ")
+              .append(TestConfig.getLocatorProfileSlowMillis()).append(" ms)\n");
+        report.append(String.format("%-6s %9s %9s %9s %8s %8s  %s%n",
+                "", "p50 ms", "p95 ms", "max ms", "lookups", "misses", "locator"));
+        for (Summary summary : summaries) {
+            boolean slow = summary.p95 >= slowNanos;
+            report.append(String.format("%-6s %9.1f %9.1f %9.1f %8d %8d  %s%n",
+                    slow ? "SLOW" : "", millis(summary.p50), millis(summary.p95), millis(summary.max),
+                    summary.count, summary.misses, summary.locator));
+            List<String> spec = LocatorScript.toSpec(summary.locator);
+            if (slow && spec != null && "xpath".equals(spec.get(0))) {
+                String css = XPathToCss.translate(spec.get(1));
+                report.append(String.format("%-6s %s%n", "", css != null
+                        ? "equivalent CSS: By.cssSelector(\"" + css.replace("\"", "\\\"") + "\")"
+                        : "no CSS equivalent (uses text(), axes, positions or functions)"));
+            }
+        }
+
+        Path path = Paths.get(TestConfig.getLogPath(), "locator-profile.txt");
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(path, report.toString().getBytes(StandardCharsets.UTF_8));
+            return path;
+        } catch (IOException e) {
+            System.err.println("Failed to write locator profile: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Locator that times lookups of the wrapped locator; it describes itself as
+     * the wrapped locator so wait timeout messages are unchanged
+     */
+    private static final class ProfiledBy extends By {
+        private final By delegate;
+
+        ProfiledBy(By delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public WebElement findElement(SearchContext context) {
+            long start = System.nanoTime();
+            boolean found = false;
+            try {
+                WebElement element = context.findElement(delegate);
+                found = true;
+                return element;
+            } finally {
+                record(delegate, System.nanoTime() - start, found);
+            }
+        }
+
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            long start = System.nanoTime();
+            List<WebElement> elements = null;
+            try {
+                elements = context.findElements(delegate);
+                return elements;
+            } finally {
+                record(delegate, System.nanoTime() - start, elements != null && !elements.isEmpty());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+
+    /**
+     * Lookup timings for one locator; percentiles come from a uniform reservoir sample
+     */
+    private static final class Samples {
+        private final By locator;
+        private final long[] reservoir = new long[RESERVOIR_SIZE];
+        private long count;
+        private long misses;
+        private long max;
+
+        Samples(By locator) {
+            this.locator = locator;
+        }
+
+        synchronized void add(long nanos, boolean found) {
+            if (count < RESERVOIR_SIZE) {
+                reservoir[(int) count] = nanos;
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(count + 1);
+                if (slot < RESERVOIR_SIZE) {
+                    reservoir[(int) slot] = nanos;
+                }
+            }
+            count++;
+            if (!found) {
+                misses++;
+            }
+            max = Math.max(max, nanos);
+        }
+
+        synchronized Summary summarize() {
+            long[] sorted = Arrays.copyOf(reservoir, (int) Math.min(count, RESERVOIR_SIZE));
+            Arrays.sort(sorted);
+            return new Summary(locator, count, misses, percentile(sorted, 50), percentile(sorted, 95), max);
+        }
+
+        private static long percentile(long[] sorted, int percent) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+    }
+
+    private static final class Summary {
+        private final By locator;
+        private final long count;
+        private final long misses;
+        private final long p50;
+        private final long p95;
+        private final long max;
+
+        Summary(By locator, long count, long misses, long p50, long p95, long max) {
+            this.locator = locator;
+            this.count = count;
+            this.misses = misses;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.max = max;
+        }
+    }
+}
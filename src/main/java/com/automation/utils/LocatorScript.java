@@ -0,0 +1,66 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Translates Selenium locators into a form that in-page scripts can resolve,
+ * together with the JavaScript finder that understands it
+ */
+final class LocatorScript {
+    /**
+     * Defines find(spec) returning the first element matching a [strategy, value] pair
+     */
+    static final String FINDER =
+            "function find(spec) {" +
+            "  var v = spec[1];" +
+            "  switch (spec[0]) {" +
+            "    case 'id': return document.getElementById(v);" +
+            "    case 'cssSelector': return document.querySelector(v);" +
+            "    case 'name': return document.querySelector('[name=\"' + CSS.escape(v) + '\"]');" +
+            "    case 'className': return document.getElementsByClassName(v)[0] || null;" +
+            "    case 'tagName': return document.getElementsByTagName(v)[0] || null;" +
+            "    case 'xpath': return document.evaluate(v, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "    case 'linkText': case 'partialLinkText':" +
+            "      var links = document.getElementsByTagName('a');" +
+            "      for (var i = 0; i < links.length; i++) {" +
+            "        var t = links[i].innerText.trim();" +
+            "        if (spec[0] === 'linkText' ? t === v : t.indexOf(v) >= 0) return links[i];" +
+            "      }" +
+            "      return null;" +
+            "  }" +
+            "  return null;" +
+            "}" +
+            "function isVisible(el) {" +
+            "  if (!el || !el.isConnected) return false;" +
+            "  var style = window.getComputedStyle(el);" +
+            "  if (style.visibility === 'hidden' || style.display === 'none' || style.opacity === '0') return false;" +
+            "  return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length);" +
+            "}";
+
+    private static final List<String> STRATEGIES = Arrays.asList(
+            "id", "cssSelector", "name", "className", "tagName", "xpath", "linkText", "partialLinkText");
+
+    private LocatorScript() {
+    }
+
+    /**
+     * Convert a locator to a [strategy, value] pair, parsed from its "By.strategy: value" form
+     *
+     * @return null if the locator cannot be resolved in-page
+     */
+    static List<String> toSpec(By locator) {
+        String description = locator.toString();
+        int colon = description.indexOf(": ");
+        if (!description.startsWith("By.") || colon < 0) {
+            return null;
+        }
+        String strategy = description.substring(3, colon);
+        if (!STRATEGIES.contains(strategy)) {
+            return null;
+        }
+        return Arrays.asList(strategy, description.substring(colon + 2));
+    }
+}
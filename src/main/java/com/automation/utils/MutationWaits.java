@@ -0,0 +1,80 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Event-driven element waits. One async script checks the condition, then
+ * re-checks on every DOM mutation and resolves as soon as it holds, so there
+ * is no polling slack and only one WebDriver command per wait. A slow in-page
+ * interval re-check covers changes that produce no mutation, such as stylesheet
+ * loads or layout.
+ */
+final class MutationWaits {
+    enum Condition { PRESENT, VISIBLE, CLICKABLE, TEXT }
+
+    private static final String SCRIPT =
+            "var spec = arguments[0], condition = arguments[1], text = arguments[2], timeout = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            LocatorScript.FINDER +
+            "function check() {" +
+            "  var el = find(spec);" +
+            "  if (!el) return null;" +
+            "  if (condition === 'PRESENT') return el;" +
+            "  if (!isVisible(el)) return null;" +
+            "  if (condition === 'CLICKABLE' && el.disabled) return null;" +
+            "  if (condition === 'TEXT' && (el.innerText || '').indexOf(text) < 0) return null;" +
+            "  return el;" +
+            "}" +
+            "var hit = check();" +
+            "if (hit) { done(hit); return; }" +
+            "var finished = false, observer, interval, timer;" +
+            "function finish(value) {" +
+            "  if (finished) return;" +
+            "  finished = true; observer.disconnect(); clearInterval(interval); clearTimeout(timer); done(value);" +
+            "}" +
+            "function recheck() { var el = check(); if (el) finish(el); }" +
+            "observer = new MutationObserver(recheck);" +
+            "observer.observe(document.documentElement || document," +
+            "  {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "interval = setInterval(recheck, 250);" +
+            "timer = setTimeout(function () { finish(null); }, timeout);";
+
+    private MutationWaits() {
+    }
+
+    /**
+     * Check if the locator can be resolved in-page
+     */
+    static boolean supports(By locator) {
+        return LocatorScript.toSpec(locator) != null;
+    }
+
+    /**
+     * Wait until the condition holds for the first element matching the locator
+     *
+     * @throws TimeoutException if the condition does not hold within the timeout
+     */
+    static WebElement await(WebDriver driver, By locator, Condition condition, String text, Duration timeout) {
+        List<String> spec = LocatorScript.toSpec(locator);
+        Object result;
+        try {
+            result = ((JavascriptExecutor) driver).executeAsyncScript(
+                    SCRIPT, spec, condition.name(), text == null ? "" : text, timeout.toMillis());
+        } catch (ScriptTimeoutException e) {
+            result = null;
+        }
+        if (!(result instanceof WebElement)) {
+            throw new TimeoutException("Expected condition failed: waiting for " + condition.name().toLowerCase()
+                    + " element located by " + locator + " (tried for " + timeout.getSeconds() + " second(s))");
+        }
+        return (WebElement) result;
+    }
+}
@@ -0,0 +1,212 @@
+package com.automation.utils;
+
+import com.automation.config.TestConfig;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Blocks requests the tests never need, such as images, fonts and third-party
+ * trackers, so pages finish loading sooner. Patterns use the DevTools wildcard
+ * syntax ("*" matches anything) and come from network.block.patterns plus the
+ * resource types in network.block.types, each of which expands to URL patterns.
+ * Chromium browsers block through DevTools (Network.setBlockedURLs) and match
+ * every request URL. Firefox is routed through a local proxy that refuses matching
+ * requests, but HTTPS reaches it only as CONNECT host:443 and is matched as
+ * "https://host/". On an HTTPS site, including the default base.url, only
+ * host-based patterns such as the tracker type therefore work in Firefox; the
+ * image, font, media and stylesheet types, which match file extensions, never do.
+ * With
+ * asset.cache.enabled and a plain HTTP base.url every browser uses that proxy,
+ * which then also serves cacheable responses to later sessions from a shared
+ * AssetCache; HTTPS passes through uncached.
+ */
+public class NetworkPolicy {
+    private static final Map<String, List<String>> TYPE_PATTERNS = new LinkedHashMap<>();
+    private static final List<String> patterns;
+    private static final List<Pattern> compiled = new ArrayList<>();
+    private static LocalProxy proxy;
+    private static boolean cacheSkipReported;
+    private static boolean hostOnlyReported;
+
+    static {
+        TYPE_PATTERNS.put("image", extensions("png", "jpg", "jpeg", "gif", "webp", "avif", "svg", "ico", "bmp"));
+        TYPE_PATTERNS.put("font", extensions("woff", "woff2", "ttf", "otf", "eot"));
+        TYPE_PATTERNS.put("media", extensions("mp4", "webm", "ogg", "mp3", "wav", "m4a"));
+        TYPE_PATTERNS.put("stylesheet", extensions("css"));
+        TYPE_PATTERNS.put("tracker", Arrays.asList(
+            "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*", "*facebook.net*",
+            "*connect.facebook.com*", "*hotjar.com*", "*clarity.ms*", "*segment.io*", "*mixpanel.com*"));
+
+        List<String> resolved = new ArrayList<>(split(TestConfig.getNetworkBlockPatterns()));
+        for (String type : split(TestConfig.getNetworkBlockTypes())) {
+            List<String> expanded = TYPE_PATTERNS.get(type.toLowerCase());
+            if (expanded == null) {
+                throw new IllegalStateException("Unknown network.block.types entry '" + type
+                        + "', expected one of " + TYPE_PATTERNS.keySet());
+            }
+            resolved.addAll(expanded);
+        }
+        patterns = Collections.unmodifiableList(resolved);
+        for (String pattern : patterns) {
+            StringBuilder regex = new StringBuilder();
+            for (String literal : pattern.split("\\*", -1)) {
+                if (regex.length() > 0) {
+                    regex.append(".*");
+                }
+                regex.append(Pattern.quote(literal));
+            }
+            compiled.add(Pattern.compile(regex.toString()));
+        }
+    }
+
+    public static boolean isEnabled() {
+        return !patterns.isEmpty();
+    }
+
+    /**
+     * URL patterns in DevTools wildcard syntax
+     */
+    public static List<String> getBlockedPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Check if a URL matches any blocked pattern
+     */
+    public static boolean isBlocked(String url) {
+        for (Pattern pattern : compiled) {
+            if (pattern.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Apply the policy to a new session's current page through DevTools; browsers
+     * without DevTools were given the proxy when they were created
+     */
+    public static void apply(WebDriver driver) {
+        if (!isEnabled() || !(driver instanceof HasCdp)) {
+            return;
+        }
+        Map<String, Object> params = new HashMap<>();
+        params.put("urls", patterns);
+        try {
+            ((HasCdp) driver).executeCdpCommand("Network.enable", new HashMap<>());
+            ((HasCdp) driver).executeCdpCommand("Network.setBlockedURLs", params);
+        } catch (WebDriverException e) {
+            System.err.println("Failed to apply network policy: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Check if browsers should be routed through the caching proxy. The proxy can
+     * only cache plain HTTP, so against an HTTPS base.url the setting is ignored
+     * rather than adding a proxy hop that never hits.
+     */
+    public static synchronized boolean isCachingAssets() {
+        if (!TestConfig.isAssetCacheEnabled()) {
+            return false;
+        }
+        if (TestConfig.getBaseUrl().startsWith("http:")) {
+            return true;
+        }
+        if (!cacheSkipReported) {
+            cacheSkipReported = true;
+            System.err.println("asset.cache.enabled ignored: " + TestConfig.getBaseUrl()
+                    + " is not plain HTTP and would be tunneled uncached");
+        }
+        return false;
+    }
+
+    /**
+     * Proxy settings for Firefox, which has no DevTools request blocking. Warns once
+     * when extension-based types are configured for an HTTPS site, where the proxy
+     * cannot see the paths they match.
+     */
+    public static synchronized Proxy firefoxProxy() {
+        if (!hostOnlyReported && !TestConfig.getBaseUrl().startsWith("http:")) {
+            List<String> pathTypes = new ArrayList<>();
+            for (String type : split(TestConfig.getNetworkBlockTypes())) {
+                if (!type.equalsIgnoreCase("tracker")) {
+                    pathTypes.add(type);
+                }
+            }
+            if (!pathTypes.isEmpty()) {
+                hostOnlyReported = true;
+                System.err.println("network.block.types " + pathTypes + " cannot be blocked in Firefox on "
+                        + TestConfig.getBaseUrl() + ": HTTPS requests only show their host to the proxy");
+            }
+        }
+        return proxy();
+    }
+
+    /**
+     * Proxy settings routing a browser through the local proxy, started on first use
+     */
+    public static synchronized Proxy proxy() {
+        if (proxy == null) {
+            AssetCache cache = null;
+            if (isCachingAssets()) {
+                String directory = TestConfig.getAssetCacheDir();
+                cache = new AssetCache(TestConfig.getAssetCacheMaxMb() * 1024L * 1024L,
+                        directory.isEmpty() ? null : Paths.get(directory));
+            }
+            try {
+                proxy = new LocalProxy(TestConfig.getNetworkProxyPort(), NetworkPolicy::isBlocked, cache,
+                        (int) TimeUnit.SECONDS.toMillis(TestConfig.getPageLoadTimeout()));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to start network policy proxy", e);
+            }
+        }
+        String address = "localhost:" + proxy.getPort();
+        return new Proxy().setHttpProxy(address).setSslProxy(address);
+    }
+
+    /**
+     * Stop the proxy if one was started, reporting asset cache use
+     */
+    public static synchronized void shutdown() {
+        if (proxy != null) {
+            if (proxy.getCache() != null) {
+                System.out.println(proxy.getCache().summary());
+            }
+            proxy.stop();
+            proxy = null;
+        }
+    }
+
+    private static List<String> extensions(String... extensions) {
+        List<String> result = new ArrayList<>();
+        for (String extension : extensions) {
+            result.add("*." + extension);
+            result.add("*." + extension + "?*");
+        }
+        return result;
+    }
+
+    private static List<String> split(String value) {
+        List<String> result = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.trim().isEmpty()) {
+                result.add(item.trim());
+            }
+        }
+        return result;
+    }
+}
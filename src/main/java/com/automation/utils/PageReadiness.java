@@ -0,0 +1,188 @@
+package com.automation.utils;
+
+import com.automation.config.TestConfig;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decides when a page is usable. Navigation returns as early as the configured
+ * page.load.strategy allows (eager: once the DOM is parsed), and the probes in
+ * page.ready.probes then wait for what the tests actually depend on:
+ * <ul>
+ *   <li>DOM - the document has been parsed</li>
+ *   <li>LOAD - the load event fired, including images and stylesheets</li>
+ *   <li>NETWORK - no fetch/XHR in flight for page.ready.network.idle.ms</li>
+ *   <li>FRAMEWORK - jQuery, AngularJS and Angular report no pending work</li>
+ * </ul>
+ * All probes are evaluated together in one script call per poll. The request
+ * counter is installed before any page script on Chromium browsers; elsewhere
+ * it is installed by the first check and only sees requests from then on.
+ */
+public class PageReadiness {
+    public enum Probe { DOM, LOAD, NETWORK, FRAMEWORK }
+
+    /**
+     * Wraps XMLHttpRequest and fetch to count requests in flight; installs once per document
+     */
+    private static final String COUNTER_SCRIPT =
+            "(function () {" +
+            "  if (window.__pageReadiness) return;" +
+            "  var state = window.__pageReadiness = {pending: 0, last: Date.now()};" +
+            "  function start() { state.pending++; state.last = Date.now(); }" +
+            "  function end() { state.pending = Math.max(0, state.pending - 1); state.last = Date.now(); }" +
+            "  var send = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.send = function () {" +
+            "    var ended = false;" +
+            "    function once() { if (!ended) { ended = true; end(); } }" +
+            "    start();" +
+            "    this.addEventListener('loadend', once);" +
+            "    try { return send.apply(this, arguments); } catch (e) { once(); throw e; }" +
+            "  };" +
+            "  if (window.fetch) {" +
+            "    var fetch = window.fetch;" +
+            "    window.fetch = function () {" +
+            "      start();" +
+            "      try {" +
+            "        return fetch.apply(this, arguments).then(function (r) { end(); return r; }," +
+            "          function (e) { end(); throw e; });" +
+            "      } catch (e) { end(); throw e; }" +
+            "    };" +
+            "  }" +
+            "})();";
+
+    /**
+     * Returns the name of the first probe that does not hold yet, or null once all do
+     */
+    private static final String CHECK_SCRIPT =
+            "var probes = arguments[0], idle = arguments[1];" +
+            COUNTER_SCRIPT +
+            "function frameworkIdle() {" +
+            "  if (window.jQuery && window.jQuery.active > 0) return false;" +
+            "  try {" +
+            "    if (window.angular && window.angular.element(document).injector()" +
+            "        .get('$http').pendingRequests.length > 0) return false;" +
+            "  } catch (e) { }" +
+            "  if (window.getAllAngularTestabilities) {" +
+            "    var testabilities = window.getAllAngularTestabilities();" +
+            "    for (var i = 0; i < testabilities.length; i++) {" +
+            "      if (!testabilities[i].isStable()) return false;" +
+            "    }" +
+            "  }" +
+            "  return true;" +
+            "}" +
+            "for (var i = 0; i < probes.length; i++) {" +
+            "  var ready;" +
+            "  switch (probes[i]) {" +
+            "    case 'DOM': ready = document.readyState !== 'loading'; break;" +
+            "    case 'LOAD': ready = document.readyState === 'complete'; break;" +
+            "    case 'NETWORK': var state = window.__pageReadiness;" +
+            "      ready = state.pending === 0 && Date.now() - state.last >= idle; break;" +
+            "    case 'FRAMEWORK': ready = frameworkIdle(); break;" +
+            "    default: ready = true;" +
+            "  }" +
+            "  if (!ready) return probes[i];" +
+            "}" +
+            "return null;";
+
+    private static final PageLoadStrategy strategy = resolveStrategy();
+    private static final List<Probe> probes = resolveProbes();
+
+    /**
+     * Page load strategy for new sessions
+     */
+    public static PageLoadStrategy getPageLoadStrategy() {
+        return strategy;
+    }
+
+    public static List<Probe> getProbes() {
+        return probes;
+    }
+
+    /**
+     * Install the request counter before any page script runs, on browsers with
+     * DevTools; called for every new session and page
+     */
+    static void install(WebDriver driver) {
+        if (!probes.contains(Probe.NETWORK) || !(driver instanceof HasCdp)) {
+            return;
+        }
+        Map<String, Object> params = new HashMap<>();
+        params.put("source", COUNTER_SCRIPT);
+        try {
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", params);
+        } catch (WebDriverException e) {
+            System.err.println("Failed to install request counter: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Wait until every configured probe holds
+     *
+     * @throws TimeoutException if the page is not ready within the explicit wait
+     */
+    public static void await(WebDriver driver) {
+        await(driver, probes);
+    }
+
+    /**
+     * Wait until the given probes hold
+     *
+     * @throws TimeoutException if the page is not ready within the explicit wait
+     */
+    public static void await(WebDriver driver, Collection<Probe> selected) {
+        if (selected.isEmpty()) {
+            return;
+        }
+        List<String> names = new ArrayList<>();
+        for (Probe probe : selected) {
+            names.add(probe.name());
+        }
+        long idleMillis = TestConfig.getPageReadyNetworkIdleMillis();
+        Object[] pending = new Object[1];
+        try {
+            WaitStrategy.newWait(driver, WaitStrategy.getExplicitTimeout()).until(webDriver -> {
+                pending[0] = ((JavascriptExecutor) webDriver).executeScript(CHECK_SCRIPT, names, idleMillis);
+                return pending[0] == null;
+            });
+        } catch (TimeoutException e) {
+            throw new TimeoutException("Page not ready: waiting for " + String.valueOf(pending[0]).toLowerCase()
+                    + " probe (tried for " + WaitStrategy.getExplicitTimeout().getSeconds() + " second(s))", e);
+        }
+    }
+
+    private static PageLoadStrategy resolveStrategy() {
+        PageLoadStrategy resolved = PageLoadStrategy.fromString(TestConfig.getPageLoadStrategy().toLowerCase());
+        if (resolved == null) {
+            throw new IllegalStateException("Unknown page.load.strategy '" + TestConfig.getPageLoadStrategy()
+                    + "', expected normal, eager or none");
+        }
+        return resolved;
+    }
+
+    private static List<Probe> resolveProbes() {
+        List<Probe> resolved = new ArrayList<>();
+        for (String name : TestConfig.getPageReadyProbes().split(",")) {
+            if (name.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                resolved.add(Probe.valueOf(name.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Unknown page.ready.probes entry '" + name.trim()
+                        + "', expected one of dom, load, network, framework", e);
+            }
+        }
+        return Collections.unmodifiableList(resolved);
+    }
+}
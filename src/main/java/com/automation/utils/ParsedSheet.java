@@ -0,0 +1,83 @@
+package com.automation.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, compact copy of a sheet's cell values. All cells are stored in one
+ * flat row-major array with primitive row offsets, and repeated values share a
+ * single String instance.
+ */
+public final class ParsedSheet {
+    private final String[] cells;
+    private final int[] rowOffsets;
+    private final long estimatedBytes;
+
+    private ParsedSheet(String[] cells, int[] rowOffsets, long estimatedBytes) {
+        this.cells = cells;
+        this.rowOffsets = rowOffsets;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Read every non-blank row of a sheet, header row included
+     */
+    static ParsedSheet read(String filePath, String sheetName) throws java.io.IOException {
+        List<String> cells = new ArrayList<>();
+        int[] offsets = new int[16];
+        int rows = 0;
+        Map<String, String> pool = new HashMap<>();
+        long stringBytes = 0;
+        try (ExcelStreamReader reader = new ExcelStreamReader(filePath, sheetName, false)) {
+            while (reader.hasNext()) {
+                if (rows + 1 == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                offsets[rows++] = cells.size();
+                for (Object value : reader.next()) {
+                    String cell = (String) value;
+                    String shared = pool.putIfAbsent(cell, cell);
+                    if (shared == null) {
+                        shared = cell;
+                        stringBytes += 40 + 2L * cell.length();
+                    }
+                    cells.add(shared);
+                }
+            }
+        }
+        offsets[rows] = cells.size();
+        int[] rowOffsets = Arrays.copyOf(offsets, rows + 1);
+        long estimatedBytes = 64 + stringBytes + 4L * cells.size() + 4L * rowOffsets.length;
+        return new ParsedSheet(cells.toArray(new String[0]), rowOffsets, estimatedBytes);
+    }
+
+    public int getRowCount() {
+        return rowOffsets.length - 1;
+    }
+
+    /**
+     * Get a read-only view of one row
+     */
+    public List<String> getRow(int index) {
+        return Collections.unmodifiableList(Arrays.asList(cells).subList(rowOffsets[index], rowOffsets[index + 1]));
+    }
+
+    /**
+     * Copy all rows into mutable lists
+     */
+    public List<List<String>> toRows() {
+        List<List<String>> rows = new ArrayList<>(getRowCount());
+        for (int i = 0; i < getRowCount(); i++) {
+            rows.add(new ArrayList<>(getRow(i)));
+        }
+        return rows;
+    }
+
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+}
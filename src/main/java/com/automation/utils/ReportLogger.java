@@ -0,0 +1,186 @@
+package com.automation.utils;
+
+import com.automation.config.TestConfig;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe logging to ExtentReports and the console.
+ * Each test thread has its own current ExtentTest. Log calls only append an event
+ * to a lock-free queue; a dedicated writer thread drains it in batches, so test
+ * threads never contend on the report or on stdout. Messages below log.level
+ * are dropped before anything is allocated.
+ */
+public class ReportLogger {
+    /**
+     * Verbosity levels, lowest first
+     */
+    public enum Level { DEBUG, INFO, WARNING, ERROR }
+
+    private static final ThreadLocal<ExtentTest> currentTest = new ThreadLocal<>();
+    private static final Queue<LogEvent> buffer = new ConcurrentLinkedQueue<>();
+    private static final Object drainLock = new Object();
+    private static final Level threshold = Level.valueOf(TestConfig.getLogLevel().toUpperCase());
+    private static final boolean debugEnabled = threshold == Level.DEBUG;
+    private static final long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(TestConfig.getLogFlushInterval());
+
+    static {
+        Thread writer = new Thread(ReportLogger::writeLoop, "report-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Bind a report node to the calling thread
+     */
+    public static void startTest(ExtentTest test) {
+        currentTest.set(test);
+    }
+
+    /**
+     * Get the calling thread's report node
+     */
+    public static ExtentTest currentTest() {
+        return currentTest.get();
+    }
+
+    /**
+     * Unbind the calling thread's report node
+     */
+    public static void endTest() {
+        currentTest.remove();
+    }
+
+    public static boolean isDebugEnabled() {
+        return debugEnabled;
+    }
+
+    public static void debug(String message) {
+        if (debugEnabled) {
+            enqueue(Status.INFO, "[DEBUG] " + message, "[DEBUG] " + message, false);
+        }
+    }
+
+    /**
+     * Log a debug message built only when debug logging is enabled
+     */
+    public static void debug(Supplier<String> message) {
+        if (debugEnabled) {
+            debug(message.get());
+        }
+    }
+
+    public static void info(String message) {
+        if (threshold.compareTo(Level.INFO) <= 0) {
+            enqueue(Status.INFO, message, "[INFO] " + message, false);
+        }
+    }
+
+    public static void warning(String message) {
+        if (threshold.compareTo(Level.WARNING) <= 0) {
+            enqueue(Status.WARNING, message, "[WARNING] " + message, false);
+        }
+    }
+
+    public static void error(String message) {
+        enqueue(Status.FAIL, message, "[ERROR] " + message, true);
+    }
+
+    /**
+     * Log to the report only, e.g. test status entries
+     */
+    public static void report(Status status, String message) {
+        enqueue(status, message, null, false);
+    }
+
+    /**
+     * Attach a screenshot to the calling thread's report node
+     */
+    public static void attachScreenshot(String path) {
+        ExtentTest test = currentTest.get();
+        if (test != null) {
+            buffer.offer(new LogEvent(test, null, null, null, false, path));
+        }
+    }
+
+    /**
+     * Write out everything logged so far
+     */
+    public static void flush() {
+        drain();
+    }
+
+    private static void enqueue(Status status, String message, String consoleLine, boolean stderr) {
+        buffer.offer(new LogEvent(currentTest.get(), status, message, consoleLine, stderr, null));
+    }
+
+    private static void writeLoop() {
+        while (true) {
+            if (!drain()) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * Drain the buffer in one batch
+     *
+     * @return true if any events were written
+     */
+    private static boolean drain() {
+        synchronized (drainLock) {
+            StringBuilder out = new StringBuilder();
+            StringBuilder err = new StringBuilder();
+            boolean written = false;
+            LogEvent event;
+            while ((event = buffer.poll()) != null) {
+                written = true;
+                try {
+                    if (event.test != null && event.screenshotPath != null) {
+                        event.test.addScreenCaptureFromPath(event.screenshotPath);
+                    } else if (event.test != null && event.status != null) {
+                        event.test.log(event.status, event.message);
+                    }
+                } catch (RuntimeException e) {
+                    err.append("[ERROR] Failed to write report entry: ").append(e.getMessage()).append(System.lineSeparator());
+                }
+                if (event.consoleLine != null) {
+                    (event.stderr ? err : out).append(event.consoleLine).append(System.lineSeparator());
+                }
+            }
+            if (out.length() > 0) {
+                System.out.print(out);
+                System.out.flush();
+            }
+            if (err.length() > 0) {
+                System.err.print(err);
+                System.err.flush();
+            }
+            return written;
+        }
+    }
+
+    private static class LogEvent {
+        private final ExtentTest test;
+        private final Status status;
+        private final String message;
+        private final String consoleLine;
+        private final boolean stderr;
+        private final String screenshotPath;
+
+        LogEvent(ExtentTest test, Status status, String message, String consoleLine, boolean stderr, String screenshotPath) {
+            this.test = test;
+            this.status = status;
+            this.message = message;
+            this.consoleLine = consoleLine;
+            this.stderr = stderr;
+            this.screenshotPath = screenshotPath;
+        }
+    }
+}
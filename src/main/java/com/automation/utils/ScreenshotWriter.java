@@ -0,0 +1,119 @@
+package com.automation.utils;
+
+import com.automation.config.TestConfig;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Screenshot pipeline that captures on the test thread and persists in the background.
+ * Capture only fetches the image bytes; conversion and disk writes run on a bounded
+ * executor. When its queue is full, or once the executor has been shut down, the
+ * capturing thread writes the file itself, which limits how many screenshots can
+ * be held in memory at once and never drops one.
+ */
+public class ScreenshotWriter {
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+    private static final AtomicLong sequence = new AtomicLong();
+    private static ThreadPoolExecutor executor;
+
+    /**
+     * Capture a screenshot of the driver's current window
+     *
+     * @return path the screenshot will be written to
+     */
+    public static String capture(WebDriver driver, String testName) {
+        byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        return save(png, testName);
+    }
+
+    /**
+     * Queue PNG bytes for conversion and writing
+     *
+     * @return path the screenshot will be written to
+     */
+    public static String save(byte[] png, String testName) {
+        String format = TestConfig.getScreenshotFormat();
+        Path target = Paths.get(TestConfig.getScreenshotPath(), fileName(testName, format));
+        executor().execute(() -> write(png, format, target));
+        return target.toString();
+    }
+
+    /**
+     * Wait for all queued screenshots to be written
+     */
+    public static synchronized void flush() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(TestConfig.getPageLoadTimeout(), TimeUnit.SECONDS)) {
+                System.err.println("Timed out waiting for screenshots to be written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    /**
+     * Build a file name unique per test, thread and capture
+     */
+    private static String fileName(String testName, String format) {
+        return testName + "_" + Thread.currentThread().getId() + "_" + LocalDateTime.now().format(TIMESTAMP)
+                + "_" + sequence.incrementAndGet() + "." + format;
+    }
+
+    private static void write(byte[] png, String format, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            if ("png".equalsIgnoreCase(format)) {
+                Files.write(target, png);
+                return;
+            }
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+            // JPEG has no alpha channel, so redraw onto an opaque image first
+            BufferedImage image = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+            image.createGraphics().drawImage(source, 0, 0, null);
+            if (!ImageIO.write(image, format, target.toFile())) {
+                System.err.println("Failed to write screenshot " + target + ": no image writer for " + format);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Failed to write screenshot " + target + ": " + e.getMessage());
+        }
+    }
+
+    private static synchronized ThreadPoolExecutor executor() {
+        if (executor == null) {
+            int threads = TestConfig.getScreenshotWriterThreads();
+            AtomicInteger counter = new AtomicInteger();
+            executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(TestConfig.getScreenshotQueueCapacity()),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "screenshot-writer-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    // Unlike CallerRunsPolicy, also write in the caller after shutdown
+                    (task, pool) -> task.run());
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,94 @@
+package com.automation.utils;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Runs a sequence of UI steps, each followed by the condition that shows it took
+ * effect. The pipeline moves to the next step as soon as the post-condition holds
+ * instead of sleeping for a fixed time, and records how long each step took.
+ */
+public class StepPipeline {
+    private final List<Step> steps = new ArrayList<>();
+
+    /**
+     * Add a step that is complete once the post-condition holds
+     */
+    public StepPipeline step(String name, Runnable action, ExpectedCondition<?> postCondition) {
+        steps.add(new Step(name, action, postCondition));
+        return this;
+    }
+
+    /**
+     * Add a step that is complete as soon as its action returns
+     */
+    public StepPipeline step(String name, Runnable action) {
+        return step(name, action, null);
+    }
+
+    /**
+     * Run all steps in order on the calling thread's driver
+     *
+     * @return per-step latencies
+     * @throws TimeoutException if a step's post-condition is not met within the explicit wait
+     */
+    public List<StepResult> run() {
+        List<StepResult> results = new ArrayList<>();
+        for (Step step : steps) {
+            long start = System.nanoTime();
+            step.action.run();
+            if (step.postCondition != null) {
+                try {
+                    WaitStrategy.newWait(DriverManager.getDriver(), WaitStrategy.getExplicitTimeout())
+                            .until(step.postCondition);
+                } catch (TimeoutException e) {
+                    throw new TimeoutException("Step '" + step.name + "' did not complete: " + e.getMessage(), e);
+                }
+            }
+            results.add(new StepResult(step.name, (System.nanoTime() - start) / 1_000_000));
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private static class Step {
+        private final String name;
+        private final Runnable action;
+        private final ExpectedCondition<?> postCondition;
+
+        Step(String name, Runnable action, ExpectedCondition<?> postCondition) {
+            this.name = name;
+            this.action = action;
+            this.postCondition = postCondition;
+        }
+    }
+
+    /**
+     * Name and duration of a completed step, including the wait for its post-condition
+     */
+    public static class StepResult {
+        private final String name;
+        private final long durationMillis;
+
+        StepResult(String name, long durationMillis) {
+            this.name = name;
+            this.durationMillis = durationMillis;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + durationMillis + " ms)";
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.automation.utils;
+
+/**
+ * How ElementUtils waits for element conditions
+ */
+public enum WaitEngine {
+    /**
+     * WebDriverWait polling, one WebDriver round trip per poll
+     */
+    POLLING,
+
+    /**
+     * Single async script that resolves from an in-page MutationObserver
+     */
+    MUTATION
+}
@@ -0,0 +1,70 @@
+package com.automation.utils;
+
+import com.automation.config.TestConfig;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+
+/**
+ * Owns every driver timeout so waits never compound.
+ * With the default explicit strategy the implicit wait is disabled and all
+ * waiting happens in WebDriverWait (or in-page waits) with one timeout budget;
+ * absence checks and optional lookups use a separate short budget so negative
+ * checks return quickly. The implicit strategy restores driver-level implicit waits
+ * for code that relies on them.
+ */
+public class WaitStrategy {
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofSeconds(5);
+
+    /**
+     * Check if the driver-level implicit wait is in use
+     */
+    public static boolean isImplicit() {
+        return "implicit".equalsIgnoreCase(TestConfig.getWaitStrategy());
+    }
+
+    /**
+     * Budget for waits that expect a condition to become true
+     */
+    public static Duration getExplicitTimeout() {
+        return Duration.ofSeconds(TestConfig.getExplicitWait());
+    }
+
+    /**
+     * Budget for state queries and absence checks
+     */
+    public static Duration getQuickTimeout() {
+        return Duration.ofMillis(TestConfig.getQuickWaitMillis());
+    }
+
+    public static Duration getPollingInterval() {
+        return Duration.ofMillis(TestConfig.getPollingIntervalMillis());
+    }
+
+    /**
+     * Apply driver timeouts. The script timeout is kept above the explicit budget
+     * so in-page waits time out on their own before WebDriver aborts them.
+     */
+    public static void configure(WebDriver driver) {
+        driver.manage().timeouts().implicitlyWait(
+            isImplicit() ? Duration.ofSeconds(TestConfig.getImplicitWait()) : Duration.ZERO
+        );
+        driver.manage().timeouts().pageLoadTimeout(
+            Duration.ofSeconds(TestConfig.getPageLoadTimeout())
+        );
+        driver.manage().timeouts().scriptTimeout(
+            getExplicitTimeout().plus(SCRIPT_TIMEOUT_MARGIN)
+        );
+    }
+
+    /**
+     * Create a wait with the configured polling interval
+     */
+    public static WebDriverWait newWait(WebDriver driver, Duration timeout) {
+        WebDriverWait wait = new WebDriverWait(driver, timeout, getPollingInterval());
+        wait.ignoring(NoSuchElementException.class);
+        return wait;
+    }
+}
@@ -0,0 +1,96 @@
+package com.automation.utils;
+
+import com.automation.config.TestConfig;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide cache of parsed workbooks shared by every ExcelUtils instance.
+ * Entries are keyed by absolute path and revalidated against the file's
+ * modification time and size on each lookup, so edited files are re-parsed.
+ * Least recently used workbooks are evicted once the estimated size of all
+ * entries exceeds excel.cache.max.mb.
+ */
+public class WorkbookCache {
+    private static final Map<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private static long usedBytes;
+
+    /**
+     * Get all sheets of a workbook keyed by sheet name, parsing the file if it is not cached or has changed
+     */
+    public static Map<String, ParsedSheet> get(String filePath) throws IOException {
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        long modified = Files.getLastModifiedTime(path).toMillis();
+        long length = Files.size(path);
+
+        synchronized (WorkbookCache.class) {
+            Entry entry = entries.get(path);
+            if (entry != null && entry.modified == modified && entry.length == length) {
+                return entry.sheets;
+            }
+        }
+
+        Entry parsed = parse(path, modified, length);
+        synchronized (WorkbookCache.class) {
+            Entry previous = entries.put(path, parsed);
+            if (previous != null) {
+                usedBytes -= previous.bytes;
+            }
+            usedBytes += parsed.bytes;
+            evict();
+        }
+        return parsed.sheets;
+    }
+
+    /**
+     * Drop all cached workbooks
+     */
+    public static synchronized void clear() {
+        entries.clear();
+        usedBytes = 0;
+    }
+
+    private static Entry parse(Path path, long modified, long length) throws IOException {
+        Map<String, ParsedSheet> sheets = new LinkedHashMap<>();
+        long bytes = 0;
+        for (String sheetName : ExcelStreamReader.getSheetNames(path.toString())) {
+            ParsedSheet sheet = ParsedSheet.read(path.toString(), sheetName);
+            sheets.put(sheetName, sheet);
+            bytes += sheet.getEstimatedBytes();
+        }
+        return new Entry(Collections.unmodifiableMap(sheets), modified, length, bytes);
+    }
+
+    /**
+     * Evict least recently used entries until within budget, always keeping the newest one
+     */
+    private static void evict() {
+        long budget = TestConfig.getExcelCacheMaxMb() * 1024L * 1024L;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (usedBytes > budget && entries.size() > 1 && iterator.hasNext()) {
+            usedBytes -= iterator.next().bytes;
+            iterator.remove();
+        }
+    }
+
+    private static class Entry {
+        private final Map<String, ParsedSheet> sheets;
+        private final long modified;
+        private final long length;
+        private final long bytes;
+
+        Entry(Map<String, ParsedSheet> sheets, long modified, long length, long bytes) {
+            this.sheets = sheets;
+            this.modified = modified;
+            this.length = length;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.automation.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Translates the subset of XPath that has an exact CSS equivalent: descendant and
+ * child steps with element names, and predicates built from attribute tests
+ * (@a, @a='v', contains(@a,'v'), starts-with(@a,'v')) combined with and/or.
+ * Unions and "or" expand into a CSS selector list. Anything involving text(),
+ * axes, positions or other functions has no CSS equivalent and is rejected.
+ */
+final class XPathToCss {
+    private static final int MAX_ALTERNATIVES = 16;
+
+    private final String xpath;
+    private int pos;
+
+    private XPathToCss(String xpath) {
+        this.xpath = xpath;
+    }
+
+    /**
+     * Translate an XPath expression to an equivalent CSS selector
+     *
+     * @return null if the expression has no CSS equivalent
+     */
+    static String translate(String xpath) {
+        try {
+            XPathToCss parser = new XPathToCss(xpath.trim());
+            List<String> selectors = parser.union();
+            if (parser.pos != parser.xpath.length()) {
+                return null;
+            }
+            return String.join(", ", selectors);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private List<String> union() {
+        List<String> selectors = new ArrayList<>(path());
+        while (skip("|")) {
+            selectors.addAll(path());
+        }
+        return limit(selectors);
+    }
+
+    private List<String> path() {
+        skipSpaces();
+        if (!xpath.startsWith("//", pos)) {
+            throw new IllegalArgumentException("Only paths starting with // are supported");
+        }
+        List<String> selectors = Collections.singletonList("");
+        boolean first = true;
+        while (true) {
+            String combinator;
+            if (skip("//")) {
+                combinator = first ? "" : " ";
+            } else if (skip("/")) {
+                combinator = " > ";
+            } else {
+                return selectors;
+            }
+            first = false;
+            selectors = combine(selectors, combinator, step());
+        }
+    }
+
+    /**
+     * Element name followed by predicates, as alternative CSS compound selectors
+     */
+    private List<String> step() {
+        String name = skip("*") ? "*" : name();
+        skipSpaces();
+        if (xpath.startsWith("::", pos) || xpath.startsWith("(", pos)) {
+            throw new IllegalArgumentException("Axes and node tests are not supported");
+        }
+        List<String> selectors = Collections.singletonList(name);
+        while (skip("[")) {
+            selectors = combine(selectors, "", or());
+            expect("]");
+        }
+        return selectors;
+    }
+
+    private List<String> or() {
+        List<String> alternatives = new ArrayList<>(and());
+        while (skipKeyword("or")) {
+            alternatives.addAll(and());
+        }
+        return limit(alternatives);
+    }
+
+    private List<String> and() {
+        List<String> selectors = atom();
+        while (skipKeyword("and")) {
+            selectors = combine(selectors, "", atom());
+        }
+        return selectors;
+    }
+
+    private List<String> atom() {
+        if (skip("(")) {
+            List<String> inner = or();
+            expect(")");
+            return inner;
+        }
+        if (skip("@")) {
+            String attribute = name();
+            if (skip("=")) {
+                return Collections.singletonList("[" + attribute + "=" + literal() + "]");
+            }
+            return Collections.singletonList("[" + attribute + "]");
+        }
+        String function = name();
+        String operator;
+        if ("contains".equals(function)) {
+            operator = "*=";
+        } else if ("starts-with".equals(function)) {
+            operator = "^=";
+        } else {
+            throw new IllegalArgumentException("Unsupported function " + function);
+        }
+        expect("(");
+        expect("@");
+        String attribute = name();
+        expect(",");
+        String value = literal();
+        expect(")");
+        return Collections.singletonList("[" + attribute + operator + value + "]");
+    }
+
+    /**
+     * Read a quoted XPath string and return it quoted for CSS
+     */
+    private String literal() {
+        skipSpaces();
+        if (pos >= xpath.length()) {
+            throw new IllegalArgumentException("Expected a string literal");
+        }
+        char quote = xpath.charAt(pos);
+        if (quote != '\'' && quote != '"') {
+            throw new IllegalArgumentException("Expected a string literal");
+        }
+        int end = xpath.indexOf(quote, pos + 1);
+        if (end < 0) {
+            throw new IllegalArgumentException("Unterminated string literal");
+        }
+        String value = xpath.substring(pos + 1, end);
+        pos = end + 1;
+        return "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "'";
+    }
+
+    private String name() {
+        skipSpaces();
+        int start = pos;
+        while (pos < xpath.length()) {
+            char c = xpath.charAt(pos);
+            if (!Character.isLetterOrDigit(c) && c != '-' && c != '_') {
+                break;
+            }
+            pos++;
+        }
+        if (start == pos || Character.isDigit(xpath.charAt(start))) {
+            throw new IllegalArgumentException("Expected a name at " + start);
+        }
+        return xpath.substring(start, pos);
+    }
+
+    private boolean skipKeyword(String keyword) {
+        skipSpaces();
+        int end = pos + keyword.length();
+        if (xpath.startsWith(keyword, pos)
+                && (end == xpath.length() || !Character.isLetterOrDigit(xpath.charAt(end)))) {
+            pos = end;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean skip(String token) {
+        skipSpaces();
+        if (xpath.startsWith(token, pos)) {
+            pos += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String token) {
+        if (!skip(token)) {
+            throw new IllegalArgumentException("Expected '" + token + "' at " + pos);
+        }
+    }
+
+    private void skipSpaces() {
+        while (pos < xpath.length() && Character.isWhitespace(xpath.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    /**
+     * Every combination of a left and a right alternative joined by the combinator
+     */
+    private static List<String> combine(List<String> left, String combinator, List<String> right) {
+        List<String> combined = new ArrayList<>();
+        for (String l : left) {
+            for (String r : right) {
+                combined.add(l + combinator + r);
+            }
+        }
+        return limit(combined);
+    }
+
+    private static List<String> limit(List<String> selectors) {
+        if (selectors.size() > MAX_ALTERNATIVES) {
+            throw new IllegalArgumentException("Too many alternatives for a readable selector");
+        }
+        return selectors;
+    }
+}
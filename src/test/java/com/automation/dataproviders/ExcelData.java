@@ -0,0 +1,28 @@
+package com.automation.dataproviders;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the Excel sheet that feeds a test method through ExcelDataProvider
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ExcelData {
+    /**
+     * Workbook path; defaults to the test.data.file configuration property
+     */
+    String file() default "";
+
+    /**
+     * Sheet name; the first row is treated as the header row
+     */
+    String sheet();
+
+    /**
+     * Header names to pass as test parameters, in order; all columns when empty
+     */
+    String[] columns() default {};
+}
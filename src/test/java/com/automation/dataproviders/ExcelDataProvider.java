@@ -0,0 +1,71 @@
+package com.automation.dataproviders;
+
+import com.automation.config.TestConfig;
+import com.automation.utils.ExcelStreamReader;
+import org.testng.annotations.DataProvider;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Reusable DataProvider that streams rows from the sheet named by the test's
+ * {@link ExcelData} annotation. Rows are read lazily and invocations run in
+ * parallel across the data provider thread pool.
+ *
+ * Usage:
+ * <pre>
+ * &#64;ExcelData(sheet = "InvalidOtp", columns = {"otp", "description"})
+ * &#64;Test(dataProvider = ExcelDataProvider.NAME, dataProviderClass = ExcelDataProvider.class)
+ * </pre>
+ */
+public class ExcelDataProvider {
+    public static final String NAME = "excelData";
+
+    @DataProvider(name = NAME, parallel = true)
+    public static Iterator<Object[]> excelData(Method method) throws IOException {
+        ExcelData spec = method.getAnnotation(ExcelData.class);
+        if (spec == null) {
+            throw new IllegalArgumentException("Missing @ExcelData on " + method.getName());
+        }
+        String file = spec.file().isEmpty() ? TestConfig.getTestDataFile() : spec.file();
+        ExcelStreamReader reader = new ExcelStreamReader(file, spec.sheet(), true);
+        if (spec.columns().length == 0) {
+            return reader;
+        }
+        int[] indexes = resolveColumns(reader, spec.columns());
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return reader.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                Object[] row = reader.next();
+                Object[] values = new Object[indexes.length];
+                for (int i = 0; i < indexes.length; i++) {
+                    values[i] = indexes[i] < row.length ? row[indexes[i]] : "";
+                }
+                return values;
+            }
+        };
+    }
+
+    /**
+     * Map requested header names to column positions in the sheet
+     */
+    private static int[] resolveColumns(ExcelStreamReader reader, String[] columns) {
+        List<String> headers = reader.getHeaders();
+        int[] indexes = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            indexes[i] = headers.indexOf(columns[i]);
+            if (indexes[i] < 0) {
+                reader.close();
+                throw new IllegalArgumentException("Column '" + columns[i] + "' not found in headers " + headers);
+            }
+        }
+        return indexes;
+    }
+}
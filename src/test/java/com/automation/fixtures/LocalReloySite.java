@@ -0,0 +1,280 @@
+package com.automation.fixtures;
+
+import com.automation.config.TestConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.BindException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded stand-in for the Reloy login site, served from src/test/resources/site.
+ * It reproduces the login menu, phone field, terms checkbox, OTP request and resend
+ * with a countdown timer, error and success states, and the post-login dashboard,
+ * with the same locators as the real site. Every request can be delayed by
+ * site.latency.ms (plus up to site.latency.jitter.ms) to model a remote server.
+ *
+ * Test data: mobile numbers must be 10 digits starting with 6-9; OTP 3290 logs in,
+ * 1234 is reported as expired and anything else as invalid.
+ *
+ * The site and its pages ship in the fixtures test-jar, which the benchmarks use too.
+ */
+public class LocalReloySite {
+    public static final String SITE_PATH = "/reloy-website";
+    public static final String VALID_OTP = "3290";
+    public static final String EXPIRED_OTP = "1234";
+
+    private static final String SESSION_COOKIE = "reloy_session";
+    private static final Pattern MOBILE_NUMBER = Pattern.compile("[6-9]\\d{9}");
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private static HttpServer server;
+    private static ExecutorService handlers;
+
+    /**
+     * Start the site on site.local.port if it is not already running
+     *
+     * @return the login page URL
+     */
+    public static String start() {
+        return start(TestConfig.getSiteLocalPort());
+    }
+
+    /**
+     * Start the site on the given port, 0 for any free one, if it is not already running
+     *
+     * @return the login page URL
+     */
+    public static synchronized String start(int port) {
+        if (server == null) {
+            try {
+                server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            } catch (BindException e) {
+                // Another JVM, e.g. a parallel shard or a standalone run of main(), already serves it
+                System.out.println("Port " + port + " is in use, assuming the local site is already running there");
+                return "http://localhost:" + port + SITE_PATH;
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to start local site on port " + port, e);
+            }
+            handlers = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "local-site-handler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(handlers);
+            server.createContext(SITE_PATH, LocalReloySite::handle);
+            server.start();
+            System.out.println("Local Reloy site running at " + getBaseUrl());
+        }
+        return getBaseUrl();
+    }
+
+    /**
+     * Stop the site if this JVM started it
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            handlers.shutdownNow();
+            server = null;
+            handlers = null;
+            sessions.clear();
+        }
+    }
+
+    public static synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    public static synchronized String getBaseUrl() {
+        int port = server != null ? server.getAddress().getPort() : TestConfig.getSiteLocalPort();
+        return "http://localhost:" + port + SITE_PATH;
+    }
+
+    /**
+     * Run the site standalone, e.g. to explore it in a browser or share it between test runs
+     */
+    public static void main(String[] args) throws InterruptedException {
+        start();
+        Thread.currentThread().join();
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            delay();
+            String path = exchange.getRequestURI().getPath().substring(SITE_PATH.length());
+            String method = exchange.getRequestMethod();
+            if (path.isEmpty() || path.equals("/")) {
+                if (isLoggedIn(exchange)) {
+                    redirect(exchange, SITE_PATH + "/dashboard");
+                } else {
+                    sendResource(exchange, "site/reloy-website.html");
+                }
+            } else if (path.equals("/dashboard")) {
+                if (isLoggedIn(exchange)) {
+                    sendResource(exchange, "site/dashboard.html");
+                } else {
+                    redirect(exchange, SITE_PATH);
+                }
+            } else if (path.startsWith("/assets/") && !path.contains("..")) {
+                exchange.getResponseHeaders().set("Cache-Control", "public, max-age=3600");
+                sendResource(exchange, "site" + path);
+            } else if (path.equals("/api/otp") && "POST".equals(method)) {
+                requestOtp(exchange);
+            } else if (path.equals("/api/login") && "POST".equals(method)) {
+                login(exchange);
+            } else {
+                sendText(exchange, 404, "text/plain", "Not found");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Local site request failed: " + e.getMessage());
+            sendText(exchange, 500, "text/plain", "Internal error");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void requestOtp(HttpExchange exchange) throws IOException {
+        Map<String, String> body = readJson(exchange);
+        Map<String, Object> response = new HashMap<>();
+        if (!MOBILE_NUMBER.matcher(body.getOrDefault("phone", "")).matches()) {
+            response.put("error", "Please enter a valid 10 digit mobile number");
+            sendJson(exchange, 400, response);
+            return;
+        }
+        response.put("resendIn", 30);
+        sendJson(exchange, 200, response);
+    }
+
+    private static void login(HttpExchange exchange) throws IOException {
+        Map<String, String> body = readJson(exchange);
+        Map<String, Object> response = new HashMap<>();
+        String otp = body.getOrDefault("otp", "");
+        if (!MOBILE_NUMBER.matcher(body.getOrDefault("phone", "")).matches()) {
+            response.put("error", "This mobile number is not registered with Reloy");
+            sendJson(exchange, 400, response);
+        } else if (EXPIRED_OTP.equals(otp)) {
+            response.put("error", "OTP has expired. Please request a new OTP");
+            sendJson(exchange, 400, response);
+        } else if (!VALID_OTP.equals(otp)) {
+            response.put("error", "Invalid OTP. Please try again");
+            sendJson(exchange, 400, response);
+        } else {
+            String token = UUID.randomUUID().toString();
+            sessions.add(token);
+            exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + token + "; Path=/; HttpOnly; SameSite=Lax");
+            response.put("token", token);
+            response.put("redirect", SITE_PATH + "/dashboard");
+            sendJson(exchange, 200, response);
+        }
+    }
+
+    private static boolean isLoggedIn(HttpExchange exchange) {
+        for (String header : exchange.getRequestHeaders().getOrDefault("Cookie", Collections.emptyList())) {
+            for (String cookie : header.split(";")) {
+                String[] pair = cookie.trim().split("=", 2);
+                if (pair.length == 2 && pair[0].equals(SESSION_COOKIE) && sessions.contains(pair[1])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Simulate network and server time of the real site
+     */
+    private static void delay() {
+        long millis = TestConfig.getSiteLatencyMillis();
+        int jitter = TestConfig.getSiteLatencyJitterMillis();
+        if (jitter > 0) {
+            millis += ThreadLocalRandom.current().nextInt(jitter + 1);
+        }
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> readJson(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            Map<String, Object> values = mapper.readValue(in, Map.class);
+            Map<String, String> strings = new HashMap<>();
+            values.forEach((key, value) -> strings.put(key, value == null ? "" : String.valueOf(value)));
+            return strings;
+        } catch (IOException e) {
+            return new HashMap<>();
+        }
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+        sendText(exchange, status, "application/json", mapper.writeValueAsString(body));
+    }
+
+    private static void sendResource(HttpExchange exchange, String resource) throws IOException {
+        try (InputStream in = LocalReloySite.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                sendText(exchange, 404, "text/plain", "Not found");
+                return;
+            }
+            send(exchange, 200, contentType(resource), in.readAllBytes());
+        }
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String contentType, String text) throws IOException {
+        send(exchange, status, contentType + "; charset=UTF-8", text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String contentType(String resource) {
+        if (resource.endsWith(".html")) {
+            return "text/html; charset=UTF-8";
+        }
+        if (resource.endsWith(".css")) {
+            return "text/css; charset=UTF-8";
+        }
+        if (resource.endsWith(".js")) {
+            return "application/javascript; charset=UTF-8";
+        }
+        if (resource.endsWith(".svg")) {
+            return "image/svg+xml";
+        }
+        return "application/octet-stream";
+    }
+}
@@ -0,0 +1,112 @@
+package com.automation.listeners;
+
+import com.automation.config.TestConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-method test durations carried across runs in a local properties file
+ * (test.history.file). Each run's duration is blended into the stored value
+ * as a moving average, so one slow run does not reorder the suite on its own.
+ */
+public class DurationHistory {
+    private static final double WEIGHT_OF_LATEST_RUN = 0.5;
+    private static final Map<String, Long> durations = new ConcurrentHashMap<>();
+    private static final Map<String, Long> currentRun = new ConcurrentHashMap<>();
+    private static boolean loaded;
+
+    /**
+     * Historical duration of a method in milliseconds
+     *
+     * @return null if the method has no recorded runs
+     */
+    public static Long get(String methodKey) {
+        load();
+        return durations.get(methodKey);
+    }
+
+    /**
+     * Mean of all recorded durations, or 0 without history
+     */
+    public static long getAverage() {
+        load();
+        return (long) durations.values().stream().mapToLong(Long::longValue).average().orElse(0);
+    }
+
+    /**
+     * Add one invocation's duration to this run's total for the method
+     */
+    public static void record(String methodKey, long millis) {
+        currentRun.merge(methodKey, millis, Long::sum);
+    }
+
+    /**
+     * Blend this run's totals into the history and write it out
+     */
+    public static synchronized void save() {
+        load();
+        if (currentRun.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Long> run : currentRun.entrySet()) {
+            durations.merge(run.getKey(), run.getValue(), (previous, latest) ->
+                    Math.round(previous * (1 - WEIGHT_OF_LATEST_RUN) + latest * WEIGHT_OF_LATEST_RUN));
+        }
+        currentRun.clear();
+
+        Properties properties = new Properties();
+        durations.forEach((key, millis) -> properties.setProperty(key, String.valueOf(millis)));
+        Path file = Paths.get(TestConfig.getTestHistoryFile());
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "durations", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "Test method durations in milliseconds");
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to save test duration history: " + e.getMessage());
+        }
+    }
+
+    private static synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        Path file = Paths.get(TestConfig.getTestHistoryFile());
+        if (!Files.exists(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable test duration history: " + e.getMessage());
+            return;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                durations.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            } catch (NumberFormatException e) {
+                // Skip corrupt entries
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.automation.listeners;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Records how long each test method ran and saves the durations to the
+ * history file when the suite finishes
+ */
+public class DurationListener implements ITestListener, ISuiteListener {
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        DurationHistory.save();
+    }
+
+    private void record(ITestResult result) {
+        DurationHistory.record(result.getMethod().getQualifiedName(), result.getEndMillis() - result.getStartMillis());
+    }
+}
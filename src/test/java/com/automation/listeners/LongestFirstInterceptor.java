@@ -0,0 +1,36 @@
+package com.automation.listeners;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders test methods longest-first by their recorded durations. With
+ * parallel="methods" each free thread takes the next method in this order,
+ * which is LPT list scheduling: long tests start early instead of ending up
+ * last on one thread while the others sit idle. Methods without history are
+ * estimated at the average; with no history at all the order is unchanged.
+ */
+public class LongestFirstInterceptor implements IMethodInterceptor {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        long average = DurationHistory.getAverage();
+        if (average == 0) {
+            return methods;
+        }
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        // List.sort is stable, so equal estimates keep their declared order
+        ordered.sort(Comparator.comparingLong((IMethodInstance method) -> estimate(method, average)).reversed());
+        return ordered;
+    }
+
+    static long estimate(IMethodInstance method, long average) {
+        Long recorded = DurationHistory.get(method.getMethod().getQualifiedName());
+        return recorded != null ? recorded : average;
+    }
+}
@@ -0,0 +1,126 @@
+package com.automation.listeners;
+
+import com.automation.config.TestConfig;
+import org.testng.IDataProviderInterceptor;
+import org.testng.IDataProviderMethod;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits the suite across shard.count JVMs or nodes; each runs only shard.index's
+ * share. Methods are packed greedily, longest recorded duration first, onto the
+ * least loaded shard, so shards finish at roughly the same time. Rows of
+ * data-driven methods are split the same way, one row at a time, on top of that
+ * plan. Every shard computes the full plan from the same inputs, so the shards
+ * agree on it as long as they share the duration history file.
+ */
+public class ShardInterceptor implements IMethodInterceptor, IDataProviderInterceptor {
+    private static final String LOADS_ATTRIBUTE = ShardInterceptor.class.getName() + ".loads";
+
+    private final int shardIndex = TestConfig.getShardIndex();
+    private final int shardCount = TestConfig.getShardCount();
+
+    public ShardInterceptor() {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalStateException("Invalid shard " + shardIndex + " of " + shardCount
+                    + ": shard.index must be between 0 and shard.count - 1");
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (shardCount == 1) {
+            return methods;
+        }
+        long average = Math.max(1, DurationHistory.getAverage());
+        List<IMethodInstance> plain = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (!isDataDriven(method.getMethod())) {
+                plain.add(method);
+            }
+        }
+        // Ties are broken by name so every shard derives the same plan
+        plain.sort(Comparator.comparingLong((IMethodInstance method) -> LongestFirstInterceptor.estimate(method, average))
+                .reversed()
+                .thenComparing(method -> method.getMethod().getQualifiedName()));
+
+        long[] loads = new long[shardCount];
+        Set<IMethodInstance> assigned = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (IMethodInstance method : plain) {
+            int shard = leastLoaded(loads);
+            loads[shard] += LongestFirstInterceptor.estimate(method, average);
+            if (shard == shardIndex) {
+                assigned.add(method);
+            }
+        }
+        context.setAttribute(LOADS_ATTRIBUTE, loads);
+
+        // Keep declared order; data-driven methods run on every shard with their share of rows
+        List<IMethodInstance> kept = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (assigned.contains(method) || isDataDriven(method.getMethod())) {
+                kept.add(method);
+            }
+        }
+        System.out.println("Shard " + shardIndex + " of " + shardCount + " runs " + kept.size()
+                + " of " + methods.size() + " methods in " + context.getName());
+        return kept;
+    }
+
+    @Override
+    public Iterator<Object[]> intercept(Iterator<Object[]> rows, IDataProviderMethod dataProviderMethod,
+                                        ITestNGMethod method, ITestContext context) {
+        if (shardCount == 1) {
+            return rows;
+        }
+        // Rows are only read ahead when sharding; the split needs the row count
+        List<Object[]> all = new ArrayList<>();
+        rows.forEachRemaining(all::add);
+        if (all.isEmpty()) {
+            return all.iterator();
+        }
+        Long recorded = DurationHistory.get(method.getQualifiedName());
+        long total = recorded != null ? recorded : Math.max(1, DurationHistory.getAverage());
+        long perRow = Math.max(1, total / all.size());
+
+        // Each method starts from the packed plan, so the split does not depend on
+        // the order in which parallel data providers happen to run
+        long[] planned = (long[]) context.getAttribute(LOADS_ATTRIBUTE);
+        long[] loads = planned != null ? planned.clone() : new long[shardCount];
+        List<Object[]> kept = new ArrayList<>();
+        for (Object[] row : all) {
+            int shard = leastLoaded(loads);
+            loads[shard] += perRow;
+            if (shard == shardIndex) {
+                kept.add(row);
+            }
+        }
+        return kept.iterator();
+    }
+
+    private static boolean isDataDriven(ITestNGMethod method) {
+        Test test = method.getConstructorOrMethod().getMethod().getAnnotation(Test.class);
+        return test != null && !test.dataProvider().isEmpty();
+    }
+
+    private static int leastLoaded(long[] loads) {
+        int least = 0;
+        for (int shard = 1; shard < loads.length; shard++) {
+            if (loads[shard] < loads[least]) {
+                least = shard;
+            }
+        }
+        return least;
+    }
+}
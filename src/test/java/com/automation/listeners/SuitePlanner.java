@@ -0,0 +1,153 @@
+package com.automation.listeners;
+
+import com.automation.config.TestConfig;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Merges &lt;test&gt; blocks that select overlapping methods under the same settings
+ * into one &lt;test&gt; running the union, so a method listed in Smoke, Regression
+ * and Login Functionality runs once instead of three times. The blocks each
+ * method came from are kept, and getGroups() reports them so the result can be
+ * attributed to every one of them. Blocks with their own groups, packages,
+ * excludes or method-level parameters are left as they are.
+ * Enabled by suite.dedupe.
+ */
+public class SuitePlanner implements IAlterSuiteListener {
+    private static final Map<String, Map<String, Set<String>>> membership = new ConcurrentHashMap<>();
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!TestConfig.isSuiteDedupeEnabled()) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            Map<String, List<XmlTest>> compatible = new LinkedHashMap<>();
+            for (XmlTest test : suite.getTests()) {
+                if (isMergeable(test)) {
+                    compatible.computeIfAbsent(settingsKey(test), key -> new ArrayList<>()).add(test);
+                }
+            }
+            for (List<XmlTest> tests : compatible.values()) {
+                if (tests.size() > 1) {
+                    merge(suite, tests);
+                }
+            }
+        }
+    }
+
+    /**
+     * Names of the original &lt;test&gt; blocks that selected a method
+     *
+     * @param testName name of the &lt;test&gt; the method is running in
+     * @return the original blocks, or just testName if it was not merged
+     */
+    public static List<String> getGroups(String testName, Class<?> testClass, String methodName) {
+        Map<String, Set<String>> groups = membership.get(testName);
+        if (groups == null) {
+            return Collections.singletonList(testName);
+        }
+        Set<String> names = new LinkedHashSet<>();
+        names.addAll(groups.getOrDefault(testClass.getName(), Collections.emptySet()));
+        names.addAll(groups.getOrDefault(testClass.getName() + "." + methodName, Collections.emptySet()));
+        return names.isEmpty() ? Collections.singletonList(testName) : new ArrayList<>(names);
+    }
+
+    /**
+     * Fold the tests into the first one, which keeps its position in the suite
+     */
+    private static void merge(XmlSuite suite, List<XmlTest> tests) {
+        XmlTest target = tests.get(0);
+        Map<String, Set<String>> groups = new LinkedHashMap<>();
+        // Class name to its included methods; an empty set means all of them
+        Map<String, Set<String>> includes = new LinkedHashMap<>();
+        Set<String> wholeClasses = new LinkedHashSet<>();
+        List<String> names = new ArrayList<>();
+        int selected = 0;
+
+        for (XmlTest test : tests) {
+            names.add(test.getName());
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                String className = xmlClass.getName();
+                Set<String> methods = includes.computeIfAbsent(className, key -> new LinkedHashSet<>());
+                if (xmlClass.getIncludedMethods().isEmpty()) {
+                    wholeClasses.add(className);
+                    groups.computeIfAbsent(className, key -> new LinkedHashSet<>()).add(test.getName());
+                    selected++;
+                }
+                for (XmlInclude include : xmlClass.getIncludedMethods()) {
+                    methods.add(include.getName());
+                    groups.computeIfAbsent(className + "." + include.getName(), key -> new LinkedHashSet<>())
+                          .add(test.getName());
+                    selected++;
+                }
+            }
+        }
+
+        List<XmlClass> classes = new ArrayList<>();
+        int unique = 0;
+        for (Map.Entry<String, Set<String>> entry : includes.entrySet()) {
+            XmlClass xmlClass = new XmlClass(entry.getKey(), classes.size());
+            xmlClass.setXmlTest(target);
+            if (!wholeClasses.contains(entry.getKey())) {
+                List<XmlInclude> methods = new ArrayList<>();
+                for (String method : entry.getValue()) {
+                    XmlInclude include = new XmlInclude(method, methods.size());
+                    include.setXmlClass(xmlClass);
+                    methods.add(include);
+                }
+                xmlClass.setIncludedMethods(methods);
+                unique += methods.size();
+            } else {
+                unique++;
+            }
+            classes.add(xmlClass);
+        }
+
+        String mergedName = String.join(" + ", names);
+        target.setName(mergedName);
+        target.setXmlClasses(classes);
+        suite.getTests().removeAll(tests.subList(1, tests.size()));
+        membership.put(mergedName, groups);
+        System.out.println("Merged tests " + names + ": " + unique + " unique selections instead of " + selected);
+    }
+
+    private static boolean isMergeable(XmlTest test) {
+        if (!test.getXmlPackages().isEmpty() || !test.getMethodSelectors().isEmpty()
+                || !test.getIncludedGroups().isEmpty() || !test.getExcludedGroups().isEmpty()) {
+            return false;
+        }
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            if (!xmlClass.getExcludedMethods().isEmpty() || !xmlClass.getLocalParameters().isEmpty()) {
+                return false;
+            }
+            for (XmlInclude include : xmlClass.getIncludedMethods()) {
+                if (!include.getLocalParameters().isEmpty() || !include.getInvocationNumbers().isEmpty()) {
+                    return false;
+                }
+            }
+        }
+        return !test.getXmlClasses().isEmpty();
+    }
+
+    /**
+     * Tests can only share a run if they would run their methods the same way
+     */
+    private static String settingsKey(XmlTest test) {
+        return new TreeMap<>(test.getLocalParameters()) + "|" + test.getParallel() + "|" + test.getThreadCount()
+                + "|" + test.getPreserveOrder() + "|" + test.getGroupByInstances();
+    }
+}
@@ -1,25 +1,39 @@
 package com.automation.tests;
 
 import com.automation.config.TestConfig;
+import com.automation.fixtures.LocalReloySite;
+import com.automation.listeners.SuitePlanner;
+import com.automation.pages.LoginPage;
+import com.automation.utils.BrowserContextIsolation;
 import com.automation.utils.DriverManager;
+import com.automation.utils.DriverPool;
+import com.automation.utils.ElementUtils;
+import com.automation.utils.ExtentReportMerger;
+import com.automation.utils.LocatorProfiler;
+import com.automation.utils.NetworkPolicy;
+import com.automation.utils.ReportLogger;
+import com.automation.utils.ScreenshotWriter;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
-import org.openqa.selenium.OutputType;
+import com.aventstack.extentreports.reporter.JsonFormatter;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
 import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
 
-import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
 /**
  * Base test class with common functionality for all test classes
@@ -27,7 +41,6 @@ import java.time.format.DateTimeFormatter;
 public class BaseTest {
     protected WebDriver driver;
     protected static ExtentReports extent;
-    protected ExtentTest test;
     
     @BeforeSuite
     public void setUpSuite() {
@@ -38,26 +51,56 @@ public class BaseTest {
         ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
         extent.attachReporter(sparkReporter);
         
+        // Sharded runs also write a JSON archive for ExtentReportMerger
+        if (TestConfig.getShardCount() > 1) {
+            extent.attachReporter(new JsonFormatter(ExtentReportMerger.getArchivePath(
+                TestConfig.getBrowser(), TestConfig.getShardIndex(), TestConfig.getShardCount())));
+        }
+        
         // Set system info
         extent.setSystemInfo("OS", System.getProperty("os.name"));
         extent.setSystemInfo("Java Version", System.getProperty("java.version"));
         extent.setSystemInfo("Browser", TestConfig.getBrowser());
         extent.setSystemInfo("Environment", TestConfig.getProperty("test.env", "DEV"));
+        if (TestConfig.getShardCount() > 1) {
+            extent.setSystemInfo("Shard", TestConfig.getShardIndex() + " of " + TestConfig.getShardCount());
+        }
         
         // Create directories
         createDirectories();
+        
+        // Serve the login site locally when running offline
+        if (TestConfig.isLocalSite()) {
+            LocalReloySite.start();
+        }
+        
+        // Pre-launch pooled browsers in the background
+        DriverPool.warmUp();
     }
     
     @AfterSuite
     public void tearDownSuite() {
+        ScreenshotWriter.flush();
+        Path locatorProfile = LocatorProfiler.writeReport();
+        if (locatorProfile != null) {
+            System.out.println("Locator profile written to: " + locatorProfile);
+        }
+        ReportLogger.flush();
         if (extent != null) {
             extent.flush();
         }
+        DriverPool.shutdown();
+        BrowserContextIsolation.shutdown();
+        NetworkPolicy.shutdown();
+        LocalReloySite.stop();
     }
     
     @BeforeClass
     public void setUpClass() {
-        driver = DriverManager.getDriver();
+        // Pooled sessions are leased per test method instead
+        if (!DriverPool.isEnabled()) {
+            driver = DriverManager.getDriver();
+        }
     }
     
     @AfterClass
@@ -66,36 +109,52 @@ public class BaseTest {
     }
     
     @BeforeMethod
-    public void setUpMethod(ITestContext context) {
-        // Create test in Extent Reports
-        test = extent.createTest(context.getName());
-        test.assignCategory(context.getCurrentXmlTest().getName());
+    public void setUpMethod(Method method, ITestContext context) {
+        // Create test in Extent Reports, bound to this thread
+        ExtentTest test = extent.createTest(method.getName());
+        // Merged <test> blocks report under each block the method was listed in
+        test.assignCategory(SuitePlanner.getGroups(context.getCurrentXmlTest().getName(), getClass(), method.getName())
+            .toArray(new String[0]));
+        ReportLogger.startTest(test);
         
         // Log test start
-        test.log(Status.INFO, "Starting test: " + context.getName());
-        test.log(Status.INFO, "Browser: " + TestConfig.getBrowser());
-        test.log(Status.INFO, "URL: " + TestConfig.getBaseUrl());
+        ReportLogger.report(Status.INFO, "Starting test: " + method.getName());
+        ReportLogger.report(Status.INFO, "Browser: " + TestConfig.getBrowser());
+        ReportLogger.report(Status.INFO, "URL: " + TestConfig.getBaseUrl());
+        
+        driver = DriverManager.getDriver();
     }
     
     @AfterMethod
     public void tearDownMethod(ITestResult result) {
         // Log test result
         if (result.getStatus() == ITestResult.SUCCESS) {
-            test.log(Status.PASS, "Test passed: " + result.getName());
+            ReportLogger.report(Status.PASS, "Test passed: " + result.getName());
         } else if (result.getStatus() == ITestResult.FAILURE) {
-            test.log(Status.FAIL, "Test failed: " + result.getName());
-            test.log(Status.FAIL, "Error: " + result.getThrowable().getMessage());
+            ReportLogger.report(Status.FAIL, "Test failed: " + result.getName());
+            ReportLogger.report(Status.FAIL, "Error: " + result.getThrowable().getMessage());
             
             // Take screenshot on failure
             if (TestConfig.isScreenshotOnFailure()) {
                 takeScreenshot(result.getName());
             }
         } else if (result.getStatus() == ITestResult.SKIP) {
-            test.log(Status.SKIP, "Test skipped: " + result.getName());
+            ReportLogger.report(Status.SKIP, "Test skipped: " + result.getName());
         }
         
         // Log test end
-        test.log(Status.INFO, "Test completed: " + result.getName());
+        ReportLogger.report(Status.INFO, "Test completed: " + result.getName());
+        ReportLogger.endTest();
+        
+        // Return pooled session so the next test can lease it
+        DriverManager.releaseDriver();
+    }
+    
+    /**
+     * Get the calling thread's report node
+     */
+    protected ExtentTest getTest() {
+        return ReportLogger.currentTest();
     }
     
     /**
@@ -103,28 +162,17 @@ public class BaseTest {
      */
     protected void takeScreenshot(String testName) {
         try {
+            WebDriver driver = DriverManager.getDriver();
             if (driver instanceof TakesScreenshot) {
-                TakesScreenshot ts = (TakesScreenshot) driver;
-                File screenshot = ts.getScreenshotAs(OutputType.FILE);
-                
-                // Create screenshot directory if it doesn't exist
-                String screenshotDir = TestConfig.getScreenshotPath();
-                Path dir = Paths.get(screenshotDir);
-                if (!Files.exists(dir)) {
-                    Files.createDirectories(dir);
-                }
-                
-                // Save screenshot with timestamp
-                String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-                String screenshotPath = screenshotDir + testName + "_" + timestamp + ".png";
-                Files.copy(screenshot.toPath(), Paths.get(screenshotPath));
+                // Written in the background; the file exists once the suite flushes
+                String screenshotPath = ScreenshotWriter.capture(driver, testName);
                 
                 // Attach to Extent report
-                test.addScreenCaptureFromPath(screenshotPath);
-                test.log(Status.INFO, "Screenshot saved: " + screenshotPath);
+                ReportLogger.attachScreenshot(screenshotPath);
+                ReportLogger.report(Status.INFO, "Screenshot saved: " + screenshotPath);
             }
-        } catch (IOException e) {
-            test.log(Status.WARNING, "Failed to take screenshot: " + e.getMessage());
+        } catch (WebDriverException e) {
+            ReportLogger.report(Status.WARNING, "Failed to take screenshot: " + e.getMessage());
         }
     }
     
@@ -154,69 +202,64 @@ public class BaseTest {
      * Log info message to Extent report
      */
     protected void logInfo(String message) {
-        if (test != null) {
-            test.log(Status.INFO, message);
-        }
-        System.out.println("[INFO] " + message);
+        ReportLogger.info(message);
     }
     
     /**
      * Log warning message to Extent report
      */
     protected void logWarning(String message) {
-        if (test != null) {
-            test.log(Status.WARNING, message);
-        }
-        System.out.println("[WARNING] " + message);
+        ReportLogger.warning(message);
     }
     
     /**
      * Log error message to Extent report
      */
     protected void logError(String message) {
-        if (test != null) {
-            test.log(Status.FAIL, message);
-        }
-        System.err.println("[ERROR] " + message);
+        ReportLogger.error(message);
     }
     
     /**
      * Log debug message to Extent report
      */
     protected void logDebug(String message) {
-        if (test != null) {
-            test.log(Status.INFO, "[DEBUG] " + message);
-        }
-        System.out.println("[DEBUG] " + message);
+        ReportLogger.debug(message);
     }
     
     /**
-     * Wait for page to load completely
+     * Log debug message built only when debug logging is enabled
+     */
+    protected void logDebug(Supplier<String> message) {
+        ReportLogger.debug(message);
+    }
+    
+    /**
+     * Wait for page to be ready according to the configured readiness probes
      */
     protected void waitForPageLoad() {
         try {
-            // Wait for document ready state
-            org.openqa.selenium.JavascriptExecutor js = (org.openqa.selenium.JavascriptExecutor) driver;
-            js.executeScript("return document.readyState").equals("complete");
-            
-            // Wait for jQuery (if present)
-            try {
-                js.executeScript("return jQuery.active == 0");
-            } catch (Exception e) {
-                // jQuery not present, continue
-            }
-            
+            ElementUtils.waitForPageLoad();
             logInfo("Page loaded successfully");
         } catch (Exception e) {
             logWarning("Page load wait failed: " + e.getMessage());
         }
     }
     
+    /**
+     * Reach a logged-in state for tests that do not verify the login UI; the first
+     * call per phone number logs in through the UI, later ones reuse its session
+     */
+    protected void loginAs(String phoneNumber, String otp) {
+        boolean loggedIn = new LoginPage().loginWithCachedSession(phoneNumber, otp);
+        Assert.assertTrue(loggedIn, "Could not reach a logged-in state as " + phoneNumber);
+        logInfo("Logged in as " + phoneNumber);
+    }
+    
     /**
      * Navigate to base URL
      */
     protected void navigateToBaseUrl() {
-        driver.get(TestConfig.getBaseUrl());
+        DriverManager.navigateToBaseUrl();
         waitForPageLoad();
         logInfo("Navigated to: " + TestConfig.getBaseUrl());
     }
@@ -225,21 +268,21 @@ public class BaseTest {
      * Get current page title
      */
     protected String getPageTitle() {
-        return driver.getTitle();
+        return DriverManager.getPageTitle();
     }
     
     /**
      * Get current URL
      */
     protected String getCurrentUrl() {
-        return driver.getCurrentUrl();
+        return DriverManager.getCurrentUrl();
     }
     
     /**
      * Refresh current page
      */
     protected void refreshPage() {
-        driver.navigate().refresh();
+        DriverManager.refreshPage();
         waitForPageLoad();
         logInfo("Page refreshed");
     }
@@ -248,7 +291,7 @@ public class BaseTest {
      * Go back to previous page
      */
     protected void goBack() {
-        driver.navigate().back();
+        DriverManager.goBack();
         waitForPageLoad();
         logInfo("Navigated back");
     }
@@ -257,7 +300,7 @@ public class BaseTest {
      * Go forward to next page
      */
     protected void goForward() {
-        driver.navigate().forward();
+        DriverManager.goForward();
         waitForPageLoad();
         logInfo("Navigated forward");
     }
@@ -0,0 +1,125 @@
+package com.automation.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for AssetCache; no browser or network needed
+ */
+public class AssetCacheTest {
+    private static final long NOW = 1_700_000_000_000L;
+
+    private static Map<String, String> headers(String... namesAndValues) {
+        Map<String, String> headers = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            headers.put(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return headers;
+    }
+
+    private static String httpDate(long millis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.ofInstant(java.time.Instant.ofEpochMilli(millis), ZoneOffset.UTC));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void testMaxAgeSetsFreshness() {
+        Assert.assertEquals(AssetCache.freshUntil(headers("cache-control", "public, max-age=3600"), NOW), NOW + 3_600_000);
+    }
+
+    @Test
+    public void testSharedMaxAgeWinsOverMaxAge() {
+        Assert.assertEquals(AssetCache.freshUntil(headers("cache-control", "max-age=60, s-maxage=600"), NOW), NOW + 600_000);
+    }
+
+    @Test
+    public void testQuotedMaxAgeIsAccepted() {
+        Assert.assertEquals(AssetCache.freshUntil(headers("cache-control", "max-age=\"60\""), NOW), NOW + 60_000);
+    }
+
+    @Test
+    public void testExpiresIsUsedWithoutMaxAge() {
+        long expires = NOW + 120_000;
+        Assert.assertEquals(AssetCache.freshUntil(headers("expires", httpDate(expires)), NOW), expires);
+    }
+
+    @Test
+    public void testMaxAgeWinsOverExpires() {
+        Map<String, String> headers = headers("cache-control", "max-age=10", "expires", httpDate(NOW + 999_000));
+        Assert.assertEquals(AssetCache.freshUntil(headers, NOW), NOW + 10_000);
+    }
+
+    @Test
+    public void testUncacheableResponsesAreRejected() {
+        Assert.assertEquals(AssetCache.freshUntil(headers(), NOW), -1);
+        Assert.assertEquals(AssetCache.freshUntil(headers("cache-control", "max-age=0"), NOW), -1);
+        Assert.assertEquals(AssetCache.freshUntil(headers("cache-control", "no-store"), NOW), -1);
+        Assert.assertEquals(AssetCache.freshUntil(headers("cache-control", "private, max-age=3600"), NOW), -1);
+        Assert.assertEquals(AssetCache.freshUntil(headers("cache-control", "no-cache, max-age=3600"), NOW), -1);
+        Assert.assertEquals(AssetCache.freshUntil(headers("cache-control", "max-age=abc"), NOW), -1);
+        Assert.assertEquals(AssetCache.freshUntil(headers("expires", "0"), NOW), -1);
+        Assert.assertEquals(AssetCache.freshUntil(headers("expires", httpDate(NOW - 1000)), NOW), -1);
+    }
+
+    @Test
+    public void testPersonalisedResponsesAreRejected() {
+        Assert.assertEquals(AssetCache.freshUntil(
+                headers("cache-control", "max-age=3600", "set-cookie", "id=1"), NOW), -1);
+        Assert.assertEquals(AssetCache.freshUntil(
+                headers("cache-control", "max-age=3600", "vary", "Cookie"), NOW), -1);
+        Assert.assertEquals(AssetCache.freshUntil(
+                headers("cache-control", "max-age=3600", "vary", "Accept-Encoding"), NOW), NOW + 3_600_000);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        AssetCache cache = new AssetCache(300, null);
+        cache.put("a", bytes("head"), new byte[30], Long.MAX_VALUE, null, null);
+        cache.put("b", bytes("head"), new byte[30], Long.MAX_VALUE, null, null);
+        Assert.assertNotNull(cache.get("a"));
+        for (int i = 0; i < 9; i++) {
+            cache.put("c" + i, bytes("head"), new byte[30], Long.MAX_VALUE, null, null);
+        }
+        Assert.assertNotNull(cache.get("c8"));
+        Assert.assertNull(cache.get("b"), "Least recently used entry should be evicted first");
+    }
+
+    @Test
+    public void testOversizedBodyIsNotCached() {
+        AssetCache cache = new AssetCache(800, null);
+        cache.put("big", bytes("head"), new byte[101], Long.MAX_VALUE, null, null);
+        Assert.assertNull(cache.get("big"));
+    }
+
+    @Test
+    public void testDiskEntriesSurviveReload() throws IOException {
+        Path directory = Files.createTempDirectory("asset-cache");
+        AssetCache cache = new AssetCache(1024 * 1024, directory);
+        cache.put("key", bytes("HTTP/1.1 200 OK\r\n\r\n"), bytes("body"), NOW + 1000, "\"v1\"", null);
+        cache.put("key", bytes("HTTP/1.1 200 OK\r\n\r\n"), bytes("newer body"), NOW + 2000, "\"v2\"", null);
+
+        AssetCache reloaded = new AssetCache(1024 * 1024, directory);
+        AssetCache.Entry entry = reloaded.get("key");
+        Assert.assertNotNull(entry);
+        Assert.assertEquals(new String(reloaded.body(entry), StandardCharsets.ISO_8859_1), "newer body");
+        Assert.assertEquals(entry.getEtag(), "\"v2\"");
+        Assert.assertTrue(entry.isFresh(NOW + 1500));
+        try (java.util.stream.Stream<Path> files = Files.list(directory)) {
+            Assert.assertEquals(files.count(), 2, "Only the current entry's meta and body files should remain");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.automation.utils;
+
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Unit tests for ExcelStreamReader against a workbook written with POI; no browser needed
+ */
+public class ExcelStreamReaderTest {
+    private Path workbook;
+
+    @BeforeClass
+    public void createWorkbook() throws IOException {
+        workbook = Files.createTempFile("stream-reader", ".xlsx");
+        try (XSSFWorkbook book = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(workbook)) {
+            XSSFSheet logins = book.createSheet("Logins");
+            XSSFRow header = logins.createRow(0);
+            header.createCell(0).setCellValue("phone");
+            header.createCell(1).setCellValue("otp");
+            header.createCell(2).setCellValue("valid");
+
+            XSSFRow first = logins.createRow(1);
+            first.createCell(0).setCellValue("9990009991");
+            first.createCell(1).setCellValue(1234);
+            first.createCell(2).setCellValue(true);
+
+            // Row 2 left blank, row 3 only has a blank cell: both are skipped
+            logins.createRow(3).createCell(1).setCellValue("");
+
+            // Gap in the first column is filled with an empty string
+            XSSFRow gap = logins.createRow(4);
+            gap.createCell(1).setCellValue("0000");
+            gap.createCell(2).setCellValue(false);
+
+            book.createSheet("Empty");
+            book.write(out);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteWorkbook() throws IOException {
+        Files.deleteIfExists(workbook);
+    }
+
+    private List<List<Object>> readAll(ExcelStreamReader reader) {
+        List<List<Object>> rows = new ArrayList<>();
+        reader.forEachRemaining(row -> rows.add(Arrays.asList(row)));
+        return rows;
+    }
+
+    @Test
+    public void testRowsAreReadAfterHeader() throws IOException {
+        ExcelStreamReader reader = new ExcelStreamReader(workbook.toString(), "Logins", true);
+        Assert.assertEquals(reader.getHeaders(), Arrays.asList("phone", "otp", "valid"));
+        List<List<Object>> rows = readAll(reader);
+        Assert.assertEquals(rows.size(), 2, "Blank rows should be skipped");
+        Assert.assertEquals(rows.get(0), Arrays.asList("9990009991", "1234.0", "TRUE"));
+        Assert.assertEquals(rows.get(1), Arrays.asList("", "0000", "FALSE"));
+        Assert.assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testHeaderRowIsReturnedAsDataWithoutHeaderFlag() throws IOException {
+        try (ExcelStreamReader reader = new ExcelStreamReader(workbook.toString(), "Logins", false)) {
+            Assert.assertTrue(reader.getHeaders().isEmpty());
+            Assert.assertEquals(Arrays.asList(reader.next()), Arrays.asList("phone", "otp", "valid"));
+        }
+    }
+
+    @Test
+    public void testMissingSheetIsRejected() {
+        IllegalArgumentException error = Assert.expectThrows(IllegalArgumentException.class,
+                () -> new ExcelStreamReader(workbook.toString(), "Login", true));
+        Assert.assertTrue(error.getMessage().startsWith("Sheet not found: Login"), error.getMessage());
+    }
+
+    @Test
+    public void testEmptySheetHasNoRows() throws IOException {
+        ExcelStreamReader empty = new ExcelStreamReader(workbook.toString(), "Empty", true);
+        Assert.assertFalse(empty.hasNext());
+        Assert.expectThrows(NoSuchElementException.class, empty::next);
+    }
+
+    @Test
+    public void testSheetNamesAreListedInWorkbookOrder() throws IOException {
+        Assert.assertEquals(ExcelStreamReader.getSheetNames(workbook.toString()), Arrays.asList("Logins", "Empty"));
+    }
+
+    @Test
+    public void testUnreadableFileIsReportedAsIOException() throws IOException {
+        Path notAWorkbook = Files.createTempFile("not-a-workbook", ".xlsx");
+        try {
+            Files.write(notAWorkbook, "plain text".getBytes());
+            Assert.expectThrows(IOException.class,
+                    () -> new ExcelStreamReader(notAWorkbook.toString(), "Logins", true));
+        } finally {
+            Files.deleteIfExists(notAWorkbook);
+        }
+    }
+}
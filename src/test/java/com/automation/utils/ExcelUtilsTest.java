@@ -0,0 +1,95 @@
+package com.automation.utils;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pins the cell values ExcelUtils returns, including where they differ from the
+ * original workbook-based reader; no browser needed
+ */
+public class ExcelUtilsTest {
+    private Path workbook;
+
+    @BeforeClass
+    public void createWorkbook() throws IOException {
+        workbook = Files.createTempFile("excel-utils", ".xlsx");
+        try (XSSFWorkbook book = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(workbook)) {
+            XSSFSheet sheet = book.createSheet("Values");
+            XSSFRow values = sheet.createRow(0);
+            values.createCell(0).setCellValue(1234);
+            values.createCell(1).setCellValue(0.1);
+            values.createCell(2).setCellValue(1.5);
+            values.createCell(3).setCellValue(9990009991d);
+            values.createCell(4).setCellValue(true);
+            values.createCell(5).setCellFormula("2*21");
+            values.createCell(6).setCellValue("text");
+            book.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            // Excel itself stores whole numbers without a fraction
+            ((XSSFCell) values.getCell(3)).getCTCell().setV("9990009991");
+
+            sheet.createRow(1);
+            XSSFRow gap = sheet.createRow(2);
+            gap.createCell(0).setCellValue("a");
+            gap.createCell(2).setCellValue("c");
+            book.write(out);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteWorkbook() throws IOException {
+        Files.deleteIfExists(workbook);
+    }
+
+    /**
+     * Row values the way the original ExcelUtils read them
+     */
+    private List<String> originalRendering(int rowIndex) throws IOException {
+        try (InputStream in = Files.newInputStream(workbook); XSSFWorkbook book = new XSSFWorkbook(in)) {
+            List<String> values = new ArrayList<>();
+            for (Cell cell : book.getSheet("Values").getRow(rowIndex)) {
+                cell.setCellType(CellType.STRING);
+                values.add(cell.getStringCellValue());
+            }
+            return values;
+        }
+    }
+
+    @Test
+    public void testValuesMatchOriginalRendering() throws IOException {
+        List<String> row = new ExcelUtils(workbook.toString()).getSheetData("Values").get(0);
+        Assert.assertEquals(row, originalRendering(0));
+        Assert.assertEquals(row, Arrays.asList("1234.0", "0.1", "1.5", "9990009991", "TRUE", "42.0", "text"));
+    }
+
+    @Test
+    public void testGapsAreFilledAndEmptyRowsSkipped() throws IOException {
+        List<List<String>> rows = new ExcelUtils(workbook.toString()).getSheetData("Values");
+        Assert.assertEquals(rows.size(), 2, "The row without values is skipped");
+        Assert.assertEquals(rows.get(1), Arrays.asList("a", "", "c"));
+        Assert.assertEquals(originalRendering(2), Arrays.asList("a", "c"), "The original reader collapsed the gap");
+    }
+
+    @Test
+    public void testMissingSheetReadsAsEmpty() throws IOException {
+        ExcelUtils excel = new ExcelUtils(workbook.toString());
+        Assert.assertTrue(excel.getSheetData("Missing").isEmpty());
+        Assert.assertTrue(excel.getSheetHeaders("Missing").isEmpty());
+    }
+}
@@ -0,0 +1,192 @@
+package com.automation.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for LocalProxy with the asset cache, against an origin on the
+ * loopback interface; no browser needed
+ */
+public class LocalProxyTest {
+    private HttpServer origin;
+    private LocalProxy proxy;
+    private Path cacheDir;
+    private final AtomicInteger originRequests = new AtomicInteger();
+    private final List<String> conditions = new CopyOnWriteArrayList<>();
+    private volatile String version;
+
+    @BeforeMethod
+    public void start() throws IOException {
+        originRequests.set(0);
+        conditions.clear();
+        version = "v1";
+        origin = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        origin.createContext("/app.js", this::serveAsset);
+        origin.start();
+        cacheDir = Files.createTempDirectory("proxy-cache");
+        proxy = new LocalProxy(0, url -> url.endsWith(".png"), new AssetCache(1024 * 1024, cacheDir), 5000);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stop() throws IOException {
+        proxy.stop();
+        origin.stop(0);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(cacheDir);
+    }
+
+    /**
+     * Cacheable asset whose ETag follows the current version; answers a matching
+     * If-None-Match with 304
+     */
+    private void serveAsset(HttpExchange exchange) throws IOException {
+        originRequests.incrementAndGet();
+        String condition = exchange.getRequestHeaders().getFirst("If-None-Match");
+        conditions.add(String.valueOf(condition));
+        String etag = "\"" + version + "\"";
+        exchange.getResponseHeaders().set("Cache-Control", "max-age=3600");
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (etag.equals(condition)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] body = ("console.log('" + version + "');").getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + origin.getAddress().getPort() + path;
+    }
+
+    /**
+     * Send a request through the proxy and read the whole response
+     */
+    private String get(String path, String... extraHeaders) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), proxy.getPort())) {
+            socket.setSoTimeout(5000);
+            StringBuilder request = new StringBuilder("GET " + url(path) + " HTTP/1.1\r\n")
+                    .append("Host: 127.0.0.1:").append(origin.getAddress().getPort()).append("\r\n");
+            for (String header : extraHeaders) {
+                request.append(header).append("\r\n");
+            }
+            socket.getOutputStream().write(request.append("\r\n").toString().getBytes(StandardCharsets.ISO_8859_1));
+            InputStream in = socket.getInputStream();
+            ByteArrayOutputStream response = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                response.write(buffer, 0, read);
+            }
+            return response.toString(StandardCharsets.ISO_8859_1.name());
+        }
+    }
+
+    private static String status(String response) {
+        return response.substring(0, response.indexOf("\r\n"));
+    }
+
+    private static String body(String response) {
+        return response.substring(response.indexOf("\r\n\r\n") + 4);
+    }
+
+    private AssetCache.Entry cached(String path) {
+        return proxy.getCache().get(url(path) + "|");
+    }
+
+    private void expire(String path) {
+        proxy.getCache().refresh(cached(path), 0);
+    }
+
+    @Test
+    public void testFreshEntryIsServedWithoutOrigin() throws IOException {
+        String first = get("/app.js");
+        String second = get("/app.js");
+        Assert.assertEquals(status(first), "HTTP/1.1 200 OK");
+        Assert.assertEquals(body(second), "console.log('v1');");
+        Assert.assertEquals(originRequests.get(), 1);
+    }
+
+    @Test
+    public void testStaleEntryConfirmedBy304IsServedInFull() throws IOException {
+        get("/app.js");
+        expire("/app.js");
+
+        String response = get("/app.js");
+        Assert.assertEquals(status(response), "HTTP/1.1 200 OK", "The browser asked unconditionally");
+        Assert.assertEquals(body(response), "console.log('v1');");
+        Assert.assertEquals(conditions.get(1), "\"v1\"", "The proxy should revalidate its own copy");
+        Assert.assertTrue(cached("/app.js").isFresh(System.currentTimeMillis()));
+    }
+
+    @Test
+    public void testConfirmedEntryWithMissingBodyIsFetchedAgain() throws IOException {
+        get("/app.js");
+        expire("/app.js");
+        try (DirectoryStream<Path> bodies = Files.newDirectoryStream(cacheDir, "*.body")) {
+            for (Path body : bodies) {
+                Files.delete(body);
+            }
+        }
+
+        String response = get("/app.js");
+        Assert.assertEquals(status(response), "HTTP/1.1 200 OK", "The proxy's own 304 must not reach the browser");
+        Assert.assertEquals(body(response), "console.log('v1');");
+        Assert.assertEquals(originRequests.get(), 3, "Revalidation then a full fetch");
+        Assert.assertEquals(conditions.get(2), "null");
+    }
+
+    @Test
+    public void testChangedAssetReplacesStaleEntry() throws IOException {
+        get("/app.js");
+        expire("/app.js");
+        version = "v2";
+
+        Assert.assertEquals(body(get("/app.js")), "console.log('v2');");
+        Assert.assertEquals(body(get("/app.js")), "console.log('v2');");
+        Assert.assertEquals(originRequests.get(), 2);
+        Assert.assertEquals(cached("/app.js").getEtag(), "\"v2\"");
+    }
+
+    @Test
+    public void testBrowserRevalidationIsPassedThrough() throws IOException {
+        get("/app.js");
+        expire("/app.js");
+
+        String response = get("/app.js", "If-None-Match: \"v1\"");
+        Assert.assertEquals(status(response), "HTTP/1.1 304 Not Modified");
+        Assert.assertEquals(conditions.get(1), "\"v1\"");
+    }
+
+    @Test
+    public void testBlockedUrlIsRefused() throws IOException {
+        Assert.assertEquals(status(get("/logo.png")), "HTTP/1.1 403 Forbidden");
+        Assert.assertEquals(originRequests.get(), 0);
+    }
+}
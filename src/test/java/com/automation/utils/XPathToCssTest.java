@@ -0,0 +1,73 @@
+package com.automation.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for XPathToCss; no browser needed
+ */
+public class XPathToCssTest {
+
+    @DataProvider(name = "translations")
+    public Object[][] translations() {
+        return new Object[][] {
+            {"//input[@type='tel']", "input[type='tel']"},
+            {"//*[@disabled]", "*[disabled]"},
+            {"//div[@id='form']/span", "div[id='form'] > span"},
+            {"//div//span", "div span"},
+            {"//input[contains(@name,'phone')]", "input[name*='phone']"},
+            {"//button[starts-with(@id,'btn') and @type='submit']", "button[id^='btn'][type='submit']"},
+            {"//input [ @type = 'tel' ]", "input[type='tel']"},
+            {"//input[@type=\"tel\"]", "input[type='tel']"},
+            {"//a | //b", "a, b"},
+            {"//input[@type='tel' or @placeholder='Phone Number' or contains(@name,'phone')]",
+                "input[type='tel'], input[placeholder='Phone Number'], input[name*='phone']"},
+            {"//input[(@a or @b) and @c]", "input[a][c], input[b][c]"},
+            {"//div[@a or @b]//span[@c or @d]", "div[a] span[c], div[a] span[d], div[b] span[c], div[b] span[d]"},
+            {"//div[contains(@class,'error') or contains(@class,'alert')]//span",
+                "div[class*='error'] span, div[class*='alert'] span"},
+        };
+    }
+
+    @Test(dataProvider = "translations")
+    public void testTranslation(String xpath, String css) {
+        Assert.assertEquals(XPathToCss.translate(xpath), css);
+    }
+
+    @Test
+    public void testQuotesAreEscapedForCss() {
+        Assert.assertEquals(XPathToCss.translate("//input[@placeholder=\"it's\"]"), "input[placeholder='it\\'s']");
+        Assert.assertEquals(XPathToCss.translate("//a[@title='a\\b']"), "a[title='a\\\\b']");
+    }
+
+    @DataProvider(name = "rejections")
+    public Object[][] rejections() {
+        return new Object[][] {
+            {"//button[contains(text(),'Login')]"},
+            {"//button[text()='Login']"},
+            {"//li[2]"},
+            {"//li[position()=1]"},
+            {"//li[last()]"},
+            {"//input/following-sibling::span"},
+            {"//input/.."},
+            {"input[@type='tel']"},
+            {"//a[@title='unterminated]"},
+            {"//a[@title=unquoted]"},
+            {"//a]"},
+            {"//a[@x or @y]/b[@x or @y]/c[@x or @y]/d[@x or @y]/e[@x or @y]"},
+        };
+    }
+
+    @Test(dataProvider = "rejections")
+    public void testExpressionsWithoutCssEquivalentAreRejected(String xpath) {
+        Assert.assertNull(XPathToCss.translate(xpath), "Should have no CSS equivalent: " + xpath);
+    }
+
+    @Test
+    public void testExpansionUpToLimitIsKept() {
+        String css = XPathToCss.translate("//a[@x or @y]/b[@x or @y]/c[@x or @y]/d[@x or @y]");
+        Assert.assertNotNull(css);
+        Assert.assertEquals(css.split(", ").length, 16);
+    }
+}
@@ -0,0 +1,108 @@
+(function () {
+    var API = '/reloy-website/api/';
+    var RESEND_SECONDS = 30;
+
+    var modal = document.getElementById('login-modal');
+    var form = document.getElementById('login-form');
+    var phone = document.getElementById('phone');
+    var terms = document.getElementById('terms');
+    var getOtp = document.getElementById('get-otp');
+    var otpStep = document.getElementById('otp-step');
+    var otp = document.getElementById('otp');
+    var timer = document.getElementById('otp-timer');
+    var resend = document.getElementById('resend-otp');
+    var submit = form.querySelector('button[type=submit]');
+    var error = document.getElementById('login-error');
+    var success = document.getElementById('login-success');
+    var countdown;
+
+    function post(path, body, onSuccess, onError) {
+        var request = new XMLHttpRequest();
+        request.open('POST', API + path);
+        request.setRequestHeader('Content-Type', 'application/json');
+        request.onload = function () {
+            var data;
+            try {
+                data = JSON.parse(request.responseText);
+            } catch (e) {
+                data = {};
+            }
+            if (request.status >= 200 && request.status < 300) {
+                onSuccess(data);
+            } else {
+                onError(data.error || 'Something went wrong. Please try again.');
+            }
+        };
+        request.onerror = function () {
+            onError('Network error. Please try again.');
+        };
+        request.send(JSON.stringify(body));
+    }
+
+    function showError(message) {
+        success.style.display = 'none';
+        error.querySelector('span').textContent = message;
+        error.style.display = '';
+    }
+
+    function clearError() {
+        error.style.display = 'none';
+        error.querySelector('span').textContent = '';
+    }
+
+    function startTimer(seconds) {
+        clearInterval(countdown);
+        var remaining = seconds;
+        timer.textContent = 'Resend OTP in ' + remaining + ' seconds';
+        countdown = setInterval(function () {
+            remaining--;
+            timer.textContent = remaining > 0 ? 'Resend OTP in ' + remaining + ' seconds' : 'Did not receive the OTP?';
+            if (remaining <= 0) {
+                clearInterval(countdown);
+            }
+        }, 1000);
+    }
+
+    function requestOtp() {
+        clearError();
+        getOtp.disabled = true;
+        post('otp', {phone: phone.value}, function (data) {
+            otpStep.style.display = '';
+            startTimer(data.resendIn || RESEND_SECONDS);
+            getOtp.disabled = !terms.checked;
+        }, function (message) {
+            showError(message);
+            getOtp.disabled = !terms.checked;
+        });
+    }
+
+    document.getElementById('login-menu').addEventListener('click', function () {
+        modal.style.display = '';
+        phone.focus();
+    });
+
+    terms.addEventListener('change', function () {
+        getOtp.disabled = !terms.checked;
+    });
+
+    getOtp.addEventListener('click', requestOtp);
+    resend.addEventListener('click', requestOtp);
+
+    otp.addEventListener('input', function () {
+        submit.disabled = otp.value.length < 4;
+    });
+
+    form.addEventListener('submit', function (event) {
+        event.preventDefault();
+        clearError();
+        submit.disabled = true;
+        post('login', {phone: phone.value, otp: otp.value}, function (data) {
+            window.localStorage.setItem('reloy_token', data.token);
+            success.style.display = '';
+            window.location.assign(data.redirect);
+        }, function (message) {
+            showError(message);
+            submit.disabled = otp.value.length < 4;
+        });
+    });
+})();